@@ -0,0 +1,107 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BatchSimulationResult;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.services.IBondBatchSimulationService;
+import pe.edu.upc.bonotech.bond.domain.services.IBondCommandService;
+
+@Service
+public class BondBatchSimulationService implements IBondBatchSimulationService {
+
+    @Autowired
+    private IBondCommandService bondCommandService;
+
+    @Autowired
+    @Qualifier("simulationPool")
+    private ForkJoinPool simulationPool;
+
+    @Value("${app.simulation.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void handle(List<Supplier<CreateBondCommand>> commands, EScheduleEngine engine,
+                       Consumer<BatchSimulationResult> sink) {
+        for (int from = 0; from < commands.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, commands.size());
+            processChunk(commands, from, to, engine).forEach(sink);
+        }
+    }
+
+    /**
+     * Calcula un bloque en paralelo y lo persiste en una sola transacción; si esa transacción
+     * falla, reintenta elemento por elemento para que solo fallen las filas que la provocaron
+     */
+    private List<BatchSimulationResult> processChunk(List<Supplier<CreateBondCommand>> commands,
+                                                     int from, int to, EScheduleEngine engine) {
+        List<BatchSimulationResult> results = compute(commands, from, to, engine);
+
+        List<Bond> computed = new ArrayList<>();
+        for (BatchSimulationResult result : results) {
+            if (result.isSuccess()) computed.add(result.bond());
+        }
+        if (computed.isEmpty()) return results;
+
+        try {
+            bondCommandService.persistSimulations(computed);
+            return results;
+        } catch (Exception e) {
+            return results.stream()
+                .map(r -> r.isSuccess() ? persistOne(r.index(), commands.get(r.index()), engine) : r)
+                .toList();
+        }
+    }
+
+    /**
+     * Vuelve a simular el elemento antes de guardarlo solo: las entidades del intento fallido
+     * conservan los identificadores asignados en la transacción revertida
+     */
+    private BatchSimulationResult persistOne(int index, Supplier<CreateBondCommand> command, EScheduleEngine engine) {
+        try {
+            Bond bond = bondCommandService.simulate(command.get(), engine);
+            bondCommandService.persistSimulations(List.of(bond));
+            return BatchSimulationResult.success(index, bond);
+        } catch (Exception e) {
+            return BatchSimulationResult.failure(index, "Error al guardar la simulación: " + e.getMessage());
+        }
+    }
+
+    private List<BatchSimulationResult> compute(List<Supplier<CreateBondCommand>> commands,
+                                                int from, int to, EScheduleEngine engine) {
+        try {
+            // El stream paralelo se ejecuta dentro del pool de simulación y conserva el orden de entrada
+            return simulationPool.submit(() -> IntStream.range(from, to)
+                .parallel()
+                .mapToObj(i -> computeOne(i, commands.get(i), engine))
+                .toList()
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulación por lotes interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error en la simulación por lotes: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private BatchSimulationResult computeOne(int index, Supplier<CreateBondCommand> command, EScheduleEngine engine) {
+        try {
+            return BatchSimulationResult.success(index, bondCommandService.simulate(command.get(), engine));
+        } catch (Exception e) {
+            return BatchSimulationResult.failure(index, e.getMessage());
+        }
+    }
+}
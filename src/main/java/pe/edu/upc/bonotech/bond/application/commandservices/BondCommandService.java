@@ -1,24 +1,35 @@
 package pe.edu.upc.bonotech.bond.application.commandservices;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
-import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
 import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.commands.DeleteUserBondsCommand;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EPaymentFrequency;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EInterestType;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ERecalculationScope;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECapitalizationPeriod;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
 import pe.edu.upc.bonotech.bond.domain.services.IBondCommandService;
 import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.FlowRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.ResultsFlowRepository;
 import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
 import pe.edu.upc.bonotech.shared.domain.services.CurrencyConversionService;
 
@@ -26,24 +37,58 @@ import pe.edu.upc.bonotech.shared.domain.services.CurrencyConversionService;
 @Transactional
 public class BondCommandService implements IBondCommandService {
     @Override
-    public Optional<Bond> updateAndRecalculateLoan(Long loanId, CreateBondCommand command) {
-        // Implementación real pendiente
-        return Optional.empty();
+    public Optional<Bond> updateAndRecalculateLoan(Long loanId, CreateBondCommand command, Long expectedVersion) {
+        var bondOpt = findForRecalculation(loanId, expectedVersion);
+        if (bondOpt.isEmpty()) return Optional.empty();
+
+        var bond = bondOpt.get();
+        updateBondFromCommand(bond, command);
+        recalculate(bond, ERecalculationScope.SCHEDULE);
+        var saved = bondRepository.save(bond);
+        loanSummaryProjector.updated(saved);
+        return Optional.of(saved);
     }
 
     @Override
     public Optional<Bond> partialUpdateAndRecalculateLoan(Long loanId, UpdateBondResource resource) {
-        // Implementación real pendiente
-        return Optional.empty();
+        var bondOpt = findForRecalculation(loanId, resource.getVersion());
+        if (bondOpt.isEmpty()) return Optional.empty();
+
+        // El cronograma regenerado debe obtenerse con los parámetros previos al cambio
+        var bond = scheduleRegenerator.attachSchedule(bondOpt.get());
+        var scope = updateBondFromResource(bond, resource);
+        recalculate(bond, scope);
+        var saved = bondRepository.save(bond);
+        loanSummaryProjector.updated(saved);
+        return Optional.of(saved);
     }
 
     @Override
     public boolean deleteBond(Long id) {
-        if (bondRepository.existsById(id)) {
-            bondRepository.deleteById(id);
-            return true;
+        // Una sentencia por tabla, sin cargar el Bond, su cronograma ni sus resultados
+        flowRepository.deleteByBondId(id);
+        resultsFlowRepository.deleteByBondId(id);
+        loanSummaryProjector.deleted(id);
+        return bondRepository.deleteSimulationById(id) > 0;
+    }
+
+    @Override
+    public int handle(DeleteUserBondsCommand command) {
+        ECurrency currency = null;
+        if (command.currency() != null) {
+            try {
+                currency = ECurrency.valueOf(command.currency().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Moneda no válida: " + command.currency());
+            }
         }
-        return false;
+
+        // Cuatro sentencias por conjunto sin importar cuántas simulaciones coincidan;
+        // hijos primero por las claves foráneas hacia bonds
+        flowRepository.deleteByUserBonds(command.userId(), currency, command.createdBefore());
+        resultsFlowRepository.deleteByUserBonds(command.userId(), currency, command.createdBefore());
+        loanSummaryProjector.deletedForUser(command.userId(), currency, command.createdBefore());
+        return bondRepository.deleteByUser(command.userId(), currency, command.createdBefore());
     }
 
     @Override
@@ -52,213 +97,132 @@ public class BondCommandService implements IBondCommandService {
         return false;
     }
 
-    private static final int SCALE = 10;
-    private static final int DAYS_PER_YEAR = 360;
-    private static final int DAYS_PER_MONTH = 30;
-
     @Autowired
     private BondRepository bondRepository;
 
+    @Autowired
+    private FlowRepository flowRepository;
+
+    @Autowired
+    private ResultsFlowRepository resultsFlowRepository;
+
     @Autowired
     private CurrencyConversionService currencyConversionService;
 
+    @Autowired
+    private ScheduleRegenerator scheduleRegenerator;
+
+    @Autowired
+    private LoanSummaryProjector loanSummaryProjector;
+
+    @Value("${app.schedule.engine:BIG_DECIMAL}")
+    private EScheduleEngine defaultScheduleEngine = EScheduleEngine.BIG_DECIMAL;
+
+    @Value("${app.schedule.storage:ROWS}")
+    private EScheduleStorage scheduleStorage = EScheduleStorage.ROWS;
+
     @Override
     public Optional<Bond> handle(CreateBondCommand command) {
-        try {
-            var bond = new Bond(command);
-            
-            if (!bond.isValidForCalculation()) {
-                throw new IllegalArgumentException("Datos del crédito no válidos para cálculo");
-            }
-            
-            var createdBond = bondRepository.save(bond);
+        return handle(command, null);
+    }
 
-            // Calcular cronograma completo
-            generatePaymentSchedule(createdBond);
-            
-            // Calcular resultados financieros
-            calculateFinancialResults(createdBond);
+    @Override
+    public Optional<Bond> handle(CreateBondCommand command, EScheduleEngine engine) {
+        try {
+            // Cronograma y resultados se calculan en memoria; un único save persiste
+            // Bond, Flows y ResultsFlow en cascada con inserts por lotes
+            var bond = simulate(command, engine);
+            applyScheduleStorage(bond);
 
-            return Optional.of(bondRepository.save(createdBond));
+            var saved = bondRepository.save(bond);
+            loanSummaryProjector.created(saved);
+            return Optional.of(saved);
         } catch (Exception e) {
             throw new RuntimeException("Error al crear el crédito: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * Genera el cronograma de pagos completo (períodos de gracia + amortización)
-     */
-    private void generatePaymentSchedule(Bond bond) {
-        bond.getFlows().clear();
-        
-        BigDecimal saldo = bond.getFinancedCapital();
-        BigDecimal tep = calculateTEP(bond);
-        int totalPeriods = bond.getTotalMonths();
-        int gracePeriods = bond.getGracePeriodMonths();
-        EGracePeriodType graceType = bond.getGracePeriodType();
-        
-        // 1. Períodos de gracia
-        for (int period = 1; period <= gracePeriods; period++) {
-            Flow flow = createGracePeriodFlow(bond, period, saldo, tep, graceType);
-            bond.getFlows().add(flow);
-            
-            // Actualizar saldo según tipo de gracia
-            if (graceType == EGracePeriodType.TOTAL) {
-                // Gracia total: intereses se capitalizan
-                BigDecimal interest = saldo.multiply(tep);
-                saldo = saldo.add(interest);
-            }
-            // Gracia parcial: saldo se mantiene igual
-        }
-        
-        // 2. Períodos de amortización
-        BigDecimal cuota = calculateFrenchMethodPayment(saldo, tep, totalPeriods - gracePeriods);
-        
-        for (int period = gracePeriods + 1; period <= totalPeriods; period++) {
-            Flow flow = createAmortizationFlow(bond, period, saldo, cuota, tep);
-            bond.getFlows().add(flow);
-            
-            // Actualizar saldo
-            BigDecimal interest = saldo.multiply(tep);
-            BigDecimal amortization = cuota.subtract(interest);
-            saldo = saldo.subtract(amortization);
-        }
-        
-        // Asegurar que el último saldo sea cero (ajuste por redondeo)
-        adjustFinalBalance(bond);
-    }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Bond simulate(CreateBondCommand command, EScheduleEngine engine) {
+        var bond = new Bond(command);
 
-    /**
-     * Crea un flujo para período de gracia
-     */
-    private Flow createGracePeriodFlow(Bond bond, int period, BigDecimal saldo, BigDecimal tep, EGracePeriodType graceType) {
-        BigDecimal interest = saldo.multiply(tep);
-        BigDecimal insurance = calculateInsurance(bond, saldo);
-        
-        BigDecimal basePayment = BigDecimal.ZERO;
-        BigDecimal totalPayment = BigDecimal.ZERO;
-        
-        if (graceType == EGracePeriodType.PARTIAL) {
-            // Gracia parcial: solo se pagan intereses
-            basePayment = interest;
-            totalPayment = basePayment.add(insurance).add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
-        } else {
-            // Gracia total: no se paga nada, intereses se capitalizan
-            totalPayment = insurance.add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
+        if (!bond.isValidForCalculation()) {
+            throw new IllegalArgumentException("Datos del crédito no válidos para cálculo");
         }
-        
-        return new Flow(
-            bond,
-            period,
-            graceType == EGracePeriodType.TOTAL ? "GRACE_TOTAL" : "GRACE_PARTIAL",
-            saldo,
-            graceType == EGracePeriodType.TOTAL ? saldo.add(interest) : saldo, // Saldo final
-            basePayment,
-            interest,
-            BigDecimal.ZERO, // Amortización cero en gracia
-            insurance,
-            bond.getFixedInsurance(),
-            bond.getPeriodicCommission(),
-            totalPayment,
-            tep
-        );
-    }
 
-    /**
-     * Crea un flujo para período de amortización
-     */
-    private Flow createAmortizationFlow(Bond bond, int period, BigDecimal saldo, BigDecimal cuota, BigDecimal tep) {
-        BigDecimal interest = saldo.multiply(tep);
-        BigDecimal amortization = cuota.subtract(interest);
-        BigDecimal insurance = calculateInsurance(bond, saldo);
-        BigDecimal finalBalance = saldo.subtract(amortization).max(BigDecimal.ZERO);
-        
-        BigDecimal totalPayment = cuota.add(insurance).add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
-        
-        return new Flow(
-            bond,
-            period,
-            "AMORTIZATION",
-            saldo,              // initialBalance
-            finalBalance,      // finalBalance
-            cuota,             // basePayment
-            interest,          // interest
-            amortization,      // amortization
-            insurance,         // insuranceAmount
-            bond.getFixedInsurance(),  // fixedInsuranceAmount
-            bond.getPeriodicCommission(), // commissionAmount
-            totalPayment,      // totalPayment
-            tep                // periodicRate
-        );
+        var scheduleEngine = engine != null ? engine : defaultScheduleEngine;
+        bond.setScheduleEngine(scheduleEngine);
+        generatePaymentSchedule(bond, scheduleEngine);
+        calculateFinancialResults(bond);
+        return bond;
     }
 
-    /**
-     * Calcula la cuota usando método francés
-     */
-    private BigDecimal calculateFrenchMethodPayment(BigDecimal capital, BigDecimal tep, int periods) {
-        if (periods <= 0) return BigDecimal.ZERO;
-        
-        BigDecimal uno = BigDecimal.ONE;
-        BigDecimal factor = uno.subtract(
-            BigDecimal.valueOf(Math.pow(uno.add(tep).doubleValue(), -periods))
-        ).setScale(SCALE, RoundingMode.HALF_UP);
-        
-        return capital.multiply(tep).divide(factor, SCALE, RoundingMode.HALF_UP);
+    @Override
+    public List<Bond> persistSimulations(List<Bond> bonds) {
+        bonds.forEach(this::applyScheduleStorage);
+        var saved = bondRepository.saveAll(bonds);
+        loanSummaryProjector.createdAll(saved);
+        return saved;
     }
 
     /**
-     * Calcula Tasa Efectiva Periódica (TEP)
+     * Aplica el modo de almacenamiento configurado al cronograma ya calculado
      */
-    private BigDecimal calculateTEP(Bond bond) {
-        int daysInPeriod = getDaysInPeriod(bond.getPaymentFrequency());
-        
-        BigDecimal n2 = BigDecimal.valueOf(daysInPeriod);
-        BigDecimal n1 = BigDecimal.valueOf(DAYS_PER_YEAR);
-        BigDecimal base = BigDecimal.ONE.add(bond.getAnnualRate());
-        BigDecimal exponent = n2.divide(n1, SCALE, RoundingMode.HALF_UP);
-
-        return BigDecimal.valueOf(Math.pow(base.doubleValue(), exponent.doubleValue()))
-                .subtract(BigDecimal.ONE)
-                .setScale(SCALE, RoundingMode.HALF_UP);
+    private void applyScheduleStorage(Bond bond) {
+        switch (scheduleStorage) {
+            case PACKED -> bond.packSchedule();
+            case REGENERATED -> bond.dropStoredSchedule();
+            case ROWS -> { }
+        }
     }
 
     /**
-     * Obtiene días según frecuencia de pago
+     * Genera el cronograma de pagos completo (períodos de gracia + amortización)
      */
-    private int getDaysInPeriod(EPaymentFrequency frequency) {
-        return switch (frequency) {
-            case MONTHLY -> DAYS_PER_MONTH;
-            case QUARTERLY -> 90;
-            case SEMI_ANNUALLY -> 180;
-            case ANNUALLY -> DAYS_PER_YEAR;
-        };
+    private void generatePaymentSchedule(Bond bond, EScheduleEngine engine) {
+        bond.replaceSchedule(ScheduleEngine.of(engine).generate(bond));
     }
 
     /**
-     * Calcula seguro desgravamen
+     * Carga la simulación a recalcular exigiendo la versión que leyó el cliente: una versión ya superada
+     * se rechaza antes de recalcular, y si otra edición confirma durante el recálculo lo detecta
+     * el UPDATE ... WHERE version = ? al confirmar
      */
-    private BigDecimal calculateInsurance(Bond bond, BigDecimal saldo) {
-        return saldo.multiply(bond.getInsurancePercentage());
+    private Optional<Bond> findForRecalculation(Long loanId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            throw new IllegalArgumentException("La versión de la simulación es obligatoria");
+        }
+
+        var bondOpt = bondRepository.findForRecalculationById(loanId);
+        if (bondOpt.isPresent() && bondOpt.get().getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Bond.class, loanId);
+        }
+        return bondOpt;
     }
 
     /**
-     * Ajusta el saldo final para evitar decimales residuales
+     * Recalcula solo lo que depende de los datos modificados:
+     * SCHEDULE regenera todo, COSTS actualiza seguros/comisiones de los períodos afectados
+     * y RESULTS vuelve a calcular totales, VAN y TIR
      */
-    private void adjustFinalBalance(Bond bond) {
-        if (bond.getFlows().isEmpty()) return;
-        
-        Flow lastFlow = bond.getFlows().get(bond.getFlows().size() - 1);
-        BigDecimal finalBalance = lastFlow.getFinalBalance();
-        
-        if (finalBalance.abs().compareTo(BigDecimal.valueOf(0.01)) < 0) {
-            lastFlow.setFinalBalance(BigDecimal.ZERO);
-            
-            // Ajustar la última amortización para cuadrar
-            if (lastFlow.isAmortizationPeriod()) {
-                BigDecimal adjustedAmortization = lastFlow.getInitialBalance();
-                lastFlow.setAmortization(adjustedAmortization);
-                lastFlow.setBasePayment(lastFlow.getInterest().add(adjustedAmortization));
-                lastFlow.calculateTotalPayment();
+    private void recalculate(Bond bond, ERecalculationScope scope) {
+        switch (scope) {
+            case NONE -> { }
+            case RESULTS -> calculateFinancialResults(bond);
+            case COSTS -> {
+                bond.applyPeriodicCosts();
+                calculateFinancialResults(bond);
+            }
+            case SCHEDULE -> {
+                if (!bond.isValidForCalculation()) {
+                    throw new IllegalArgumentException("Datos del crédito no válidos para cálculo");
+                }
+                var engine = bond.getScheduleEngine() != null ? bond.getScheduleEngine() : defaultScheduleEngine;
+                bond.setScheduleEngine(engine);
+                generatePaymentSchedule(bond, engine);
+                calculateFinancialResults(bond);
+                applyScheduleStorage(bond);
             }
         }
     }
@@ -273,16 +237,9 @@ public class BondCommandService implements IBondCommandService {
             results.setBond(bond);
         }
         
-        // Calcular totales
-        results.calculateTotals();
-        
-        // Calcular VAN si hay tasa de descuento
-        if (bond.getDiscountRate() != null && bond.getDiscountRate().compareTo(BigDecimal.ZERO) > 0) {
-            results.calculateVAN(bond.getDiscountRate());
-        }
-        
-        // Calcular TIR y TCEA
-        results.calculateTIR();
+        // Totales (forma cerrada), VAN si hay tasa de descuento, TIR y TCEA: una sola
+        // extracción del cronograma para todos los indicadores
+        results.calculateResults(bond.getDiscountRate());
         
         bond.setResultsFlow(results);
     }
@@ -315,35 +272,69 @@ public class BondCommandService implements IBondCommandService {
         bond.setDisbursementDate(command.disbursementDate());
         bond.setDiscountRate(command.discountRate());
         
+        bond.normalizeAnnualRate();
         bond.updateFinancedCapital();
     }
 
     /**
-     * Actualiza el bond desde un resource parcial
+     * Actualiza el bond desde un resource parcial y devuelve el alcance del recálculo necesario.
+     * Solo cuentan los campos cuyo valor cambia realmente.
      */
-    private void updateBondFromResource(Bond bond, UpdateBondResource resource) {
-        if (resource.getName() != null) bond.setName(resource.getName());
-        if (resource.getCurrency() != null) bond.setCurrency(ECurrency.valueOf(resource.getCurrency()));
-        if (resource.getLoanAmount() != null) bond.setLoanAmount(resource.getLoanAmount());
-        if (resource.getBbpAmount() != null) bond.setBbpAmount(resource.getBbpAmount());
-        if (resource.getInitialFeePercentage() != null) bond.setInitialFeePercentage(resource.getInitialFeePercentage());
-        if (resource.getInitialFeeAmount() != null) bond.setInitialFeeAmount(resource.getInitialFeeAmount());
-        if (resource.getExchangeRate() != null) bond.setExchangeRate(resource.getExchangeRate());
-        if (resource.getInterestType() != null) bond.setInterestType(EInterestType.valueOf(resource.getInterestType()));
-        if (resource.getAnnualRate() != null) bond.setAnnualRate(resource.getAnnualRate());
-        if (resource.getCapitalizationPeriod() != null) bond.setCapitalizationPeriod(ECapitalizationPeriod.valueOf(resource.getCapitalizationPeriod()));
-        if (resource.getPaymentFrequency() != null) bond.setPaymentFrequency(EPaymentFrequency.valueOf(resource.getPaymentFrequency()));
-        if (resource.getTotalMonths() != null) bond.setTotalMonths(resource.getTotalMonths());
-        if (resource.getGracePeriodType() != null) bond.setGracePeriodType(EGracePeriodType.valueOf(resource.getGracePeriodType()));
-        if (resource.getGracePeriodMonths() != null) bond.setGracePeriodMonths(resource.getGracePeriodMonths());
-        if (resource.getInsurancePercentage() != null) bond.setInsurancePercentage(resource.getInsurancePercentage());
-        if (resource.getFixedInsurance() != null) bond.setFixedInsurance(resource.getFixedInsurance());
-        if (resource.getInitialCommission() != null) bond.setInitialCommission(resource.getInitialCommission());
-        if (resource.getPeriodicCommission() != null) bond.setPeriodicCommission(resource.getPeriodicCommission());
-        if (resource.getFinalCommission() != null) bond.setFinalCommission(resource.getFinalCommission());
-        if (resource.getDisbursementDate() != null) bond.setDisbursementDate(resource.getDisbursementDate());
-        if (resource.getDiscountRate() != null) bond.setDiscountRate(resource.getDiscountRate());
-        
-        bond.updateFinancedCapital();
+    private ERecalculationScope updateBondFromResource(Bond bond, UpdateBondResource resource) {
+        var scope = ERecalculationScope.NONE;
+
+        // Datos descriptivos
+        scope = scope.widen(change(resource.getName(), bond.getName(), bond::setName, ERecalculationScope.NONE));
+        scope = scope.widen(change(enumOf(ECurrency.class, resource.getCurrency()), bond.getCurrency(), bond::setCurrency, ERecalculationScope.NONE));
+        scope = scope.widen(change(resource.getExchangeRate(), bond.getExchangeRate(), bond::setExchangeRate, ERecalculationScope.NONE));
+        scope = scope.widen(change(resource.getDisbursementDate(), bond.getDisbursementDate(), bond::setDisbursementDate, ERecalculationScope.NONE));
+
+        // Solo afectan a los resultados (flujo inicial/final y VAN)
+        scope = scope.widen(change(resource.getInitialCommission(), bond.getInitialCommission(), bond::setInitialCommission, ERecalculationScope.RESULTS));
+        scope = scope.widen(change(resource.getFinalCommission(), bond.getFinalCommission(), bond::setFinalCommission, ERecalculationScope.RESULTS));
+        scope = scope.widen(change(resource.getDiscountRate(), bond.getDiscountRate(), bond::setDiscountRate, ERecalculationScope.RESULTS));
+
+        // Costos periódicos: no alteran saldos ni cuota base
+        scope = scope.widen(change(resource.getInsurancePercentage(), bond.getInsurancePercentage(), bond::setInsurancePercentage, ERecalculationScope.COSTS));
+        scope = scope.widen(change(resource.getFixedInsurance(), bond.getFixedInsurance(), bond::setFixedInsurance, ERecalculationScope.COSTS));
+        scope = scope.widen(change(resource.getPeriodicCommission(), bond.getPeriodicCommission(), bond::setPeriodicCommission, ERecalculationScope.COSTS));
+
+        // Capital, tasa, plazo y gracia: cambian saldos y cuota
+        scope = scope.widen(change(resource.getLoanAmount(), bond.getLoanAmount(), bond::setLoanAmount, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getBbpAmount(), bond.getBbpAmount(), bond::setBbpAmount, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getInitialFeePercentage(), bond.getInitialFeePercentage(), bond::setInitialFeePercentage, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getInitialFeeAmount(), bond.getInitialFeeAmount(), bond::setInitialFeeAmount, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(enumOf(EInterestType.class, resource.getInterestType()), bond.getInterestType(), bond::setInterestType, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getAnnualRate(), bond.getAnnualRate(), bond::setAnnualRate, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(enumOf(ECapitalizationPeriod.class, resource.getCapitalizationPeriod()), bond.getCapitalizationPeriod(), bond::setCapitalizationPeriod, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(enumOf(EPaymentFrequency.class, resource.getPaymentFrequency()), bond.getPaymentFrequency(), bond::setPaymentFrequency, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getTotalMonths(), bond.getTotalMonths(), bond::setTotalMonths, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(enumOf(EGracePeriodType.class, resource.getGracePeriodType()), bond.getGracePeriodType(), bond::setGracePeriodType, ERecalculationScope.SCHEDULE));
+        scope = scope.widen(change(resource.getGracePeriodMonths(), bond.getGracePeriodMonths(), bond::setGracePeriodMonths, ERecalculationScope.SCHEDULE));
+
+        if (scope == ERecalculationScope.SCHEDULE) {
+            bond.normalizeAnnualRate();
+            bond.updateFinancedCapital();
+        }
+        return scope;
+    }
+
+    /**
+     * Aplica un valor solo si cambia; devuelve el alcance asociado al campo o NONE
+     */
+    private static <T> ERecalculationScope change(T value, T current, Consumer<T> setter, ERecalculationScope scope) {
+        if (value == null) return ERecalculationScope.NONE;
+
+        boolean same = value instanceof BigDecimal decimal && current instanceof BigDecimal currentDecimal
+            ? decimal.compareTo(currentDecimal) == 0
+            : value.equals(current);
+        if (same) return ERecalculationScope.NONE;
+
+        setter.accept(value);
+        return scope;
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.PortfolioColumns;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.PortfolioKernel;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PortfolioPricingResult;
+import pe.edu.upc.bonotech.bond.domain.services.IBondPortfolioPricingService;
+
+@Service
+public class BondPortfolioPricingService implements IBondPortfolioPricingService {
+
+    @Autowired
+    @Qualifier("simulationPool")
+    private ForkJoinPool simulationPool;
+
+    private static final String INVALID_LOAN = "Datos del crédito no válidos para cálculo";
+
+    @Value("${app.simulation.portfolio.block-size:256}")
+    private int blockSize;
+
+    @Override
+    public PortfolioPricingResult handle(List<Supplier<CreateBondCommand>> commands) {
+        PortfolioPricingResult result = PortfolioPricingResult.allocate(commands.size());
+
+        // El agregado valida y normaliza cada comando (tasa nominal → efectiva, capital financiado)
+        Bond[] bonds = new Bond[commands.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                Bond bond = new Bond(commands.get(i).get());
+                if (!bond.isValidForCalculation() || bond.getAnnualRate().signum() <= 0) {
+                    result.errors()[i] = INVALID_LOAN;
+                    continue;
+                }
+                bonds[i] = bond;
+                valid.add(i);
+            } catch (Exception e) {
+                result.errors()[i] = e.getMessage() != null ? e.getMessage() : INVALID_LOAN;
+            }
+        }
+
+        // Bloques de plazos parecidos: los carriles de un bloque recorren casi los mismos períodos
+        valid.sort(Comparator.comparingInt(i -> bonds[i].getTotalMonths()));
+        List<List<Integer>> blocks = new ArrayList<>();
+        for (int from = 0; from < valid.size(); from += blockSize) {
+            blocks.add(valid.subList(from, Math.min(from + blockSize, valid.size())));
+        }
+
+        try {
+            // Cada bloque escribe solo las posiciones de sus propios créditos
+            simulationPool.submit(() -> IntStream.range(0, blocks.size())
+                .parallel()
+                .forEach(b -> priceBlock(bonds, blocks.get(b), result))
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Valorización de cartera interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error en la valorización de cartera: " + e.getCause().getMessage(), e.getCause());
+        }
+        return result;
+    }
+
+    private void priceBlock(Bond[] bonds, List<Integer> block, PortfolioPricingResult result) {
+        int maxPeriods = block.stream().mapToInt(i -> bonds[i].getTotalMonths()).max().orElse(0);
+        PortfolioColumns c = PortfolioColumns.allocate(block.size(), maxPeriods);
+
+        for (int lane = 0; lane < block.size(); lane++) {
+            Bond bond = bonds[block.get(lane)];
+            int periods = bond.getTotalMonths();
+            BigDecimal initialCommission = orZero(bond.getInitialCommission());
+
+            c.financedCapital()[lane] = bond.getFinancedCapital().doubleValue();
+            c.periodicRate()[lane] = FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency()).doubleValue();
+            c.periods()[lane] = periods;
+            c.gracePeriods()[lane] = Math.min(Math.max(bond.getGracePeriodMonths(), 0), periods);
+            c.totalGrace()[lane] = bond.getGracePeriodType() == EGracePeriodType.TOTAL;
+            c.partialGrace()[lane] = bond.getGracePeriodType() == EGracePeriodType.PARTIAL;
+            c.insuranceRate()[lane] = bond.getInsurancePercentage().doubleValue();
+            c.fixedInsurance()[lane] = bond.getFixedInsurance().doubleValue();
+            c.commission()[lane] = bond.getPeriodicCommission().doubleValue();
+            c.initialFlow()[lane] = bond.getFinancedCapital().subtract(initialCommission).doubleValue();
+            c.upfrontCosts()[lane] = initialCommission.add(orZero(bond.getFinalCommission())).doubleValue();
+            c.periodicDiscountRate()[lane] = periodicDiscountRate(bond);
+            c.periodsPerYear()[lane] = bond.getPeriodsPerYear();
+        }
+
+        PortfolioKernel.price(c);
+
+        for (int lane = 0; lane < block.size(); lane++) {
+            int i = block.get(lane);
+            double costs = c.totalInsurance()[lane] + c.totalFixedInsurance()[lane]
+                + c.totalCommissions()[lane] + c.upfrontCosts()[lane];
+
+            result.cuota()[i] = c.cuota()[lane];
+            result.tir()[i] = c.tir()[lane];
+            result.tcea()[i] = c.tcea()[lane];
+            result.van()[i] = c.van()[lane];
+            result.totalBasePayments()[i] = c.totalBasePayments()[lane];
+            result.totalInterest()[i] = c.totalInterest()[lane];
+            result.totalAmortization()[i] = c.totalAmortization()[lane];
+            result.totalInsurance()[i] = c.totalInsurance()[lane];
+            result.totalFixedInsurance()[i] = c.totalFixedInsurance()[lane];
+            result.totalCommissions()[i] = c.totalCommissions()[lane];
+            result.totalCosts()[i] = costs;
+            result.totalPaid()[i] = c.totalBasePayments()[lane] + costs;
+            result.costOfCredit()[i] = c.totalInterest()[lane] + costs;
+            if (Double.isNaN(c.tir()[lane])) {
+                result.errors()[i] = "No se encontró la TIR del flujo del crédito";
+            }
+        }
+    }
+
+    /**
+     * Tasa de descuento periódica con el mismo redondeo que ResultsFlow (NaN sin tasa de descuento)
+     */
+    private static double periodicDiscountRate(Bond bond) {
+        BigDecimal discountRate = bond.getDiscountRate();
+        if (discountRate == null || discountRate.signum() <= 0) return Double.NaN;
+
+        return BigDecimal.valueOf(Math.pow(discountRate.doubleValue() + 1, 1.0 / bond.getPeriodsPerYear()))
+            .subtract(BigDecimal.ONE)
+            .setScale(FrenchMethod.SCALE, RoundingMode.HALF_UP)
+            .doubleValue();
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
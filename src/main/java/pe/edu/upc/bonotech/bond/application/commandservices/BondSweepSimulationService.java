@@ -0,0 +1,152 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ResultsKernel;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ScheduleColumns;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ScheduleKernel;
+import pe.edu.upc.bonotech.bond.domain.model.commands.SweepSimulationCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.SweepResult;
+import pe.edu.upc.bonotech.bond.domain.services.IBondSweepSimulationService;
+
+@Service
+public class BondSweepSimulationService implements IBondSweepSimulationService {
+
+    @Autowired
+    @Qualifier("simulationPool")
+    private ForkJoinPool simulationPool;
+
+    @Value("${app.simulation.sweep.max-cells:10000}")
+    private int maxCells;
+
+    @Override
+    public SweepResult handle(SweepSimulationCommand command) {
+        long cells = command.cellCount();
+        if (cells > maxCells) {
+            throw new IllegalArgumentException("La grilla tiene " + cells + " celdas; el máximo permitido es " + maxCells);
+        }
+
+        List<BigDecimal> rates = command.annualRates();
+        List<Integer> terms = command.totalMonths();
+        List<Integer> graces = command.gracePeriodMonths();
+        List<BigDecimal> fees = command.initialFeeAmounts();
+
+        // TEP por tasa y factor de anualidad por (tasa, períodos de amortización): se calculan
+        // una sola vez y se comparten entre todas las celdas
+        int maxTerm = terms.stream().mapToInt(Integer::intValue).max().orElse(0);
+        BigDecimal[] teps = new BigDecimal[rates.size()];
+        BigDecimal[][] annuityFactors = new BigDecimal[rates.size()][maxTerm + 1];
+        for (int r = 0; r < rates.size(); r++) {
+            teps[r] = periodicRate(command, rates.get(r));
+            if (teps[r] == null || teps[r].signum() <= 0) continue;
+
+            for (int term : terms) {
+                for (int grace : graces) {
+                    int n = term - grace;
+                    if (grace >= 0 && n > 0 && annuityFactors[r][n] == null) {
+                        annuityFactors[r][n] = FrenchMethod.annuityFactor(teps[r], n);
+                    }
+                }
+            }
+        }
+
+        int size = (int) cells;
+        SweepResult result = new SweepResult(rates, terms, graces, fees,
+            new double[size], new double[size], new double[size], new double[size]);
+
+        try {
+            // Cada celda escribe solo su propia posición de los arreglos de resultados
+            simulationPool.submit(() -> IntStream.range(0, size)
+                .parallel()
+                .forEach(i -> computeCell(command, result, teps, annuityFactors, i))
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulación de grilla interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error en la simulación de grilla: " + e.getCause().getMessage(), e.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * TEP de una tasa de la grilla (la conversión nominal → efectiva la hace el agregado)
+     */
+    private BigDecimal periodicRate(SweepSimulationCommand command, BigDecimal annualRate) {
+        try {
+            var base = command.base();
+            var bond = new Bond(command.cell(annualRate, base.totalMonths(), base.gracePeriodMonths(), base.initialFeeAmount()));
+            return FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void computeCell(SweepSimulationCommand command, SweepResult result,
+                             BigDecimal[] teps, BigDecimal[][] annuityFactors, int index) {
+        int fees = result.initialFeeAmounts().size();
+        int graces = result.gracePeriodMonths().size();
+        int terms = result.totalMonths().size();
+        int f = index % fees;
+        int g = (index / fees) % graces;
+        int t = (index / (fees * graces)) % terms;
+        int r = index / (fees * graces * terms);
+
+        int term = result.totalMonths().get(t);
+        int grace = result.gracePeriodMonths().get(g);
+        markInvalid(result, index);
+
+        try {
+            var bond = new Bond(command.cell(result.annualRates().get(r), term, grace, result.initialFeeAmounts().get(f)));
+            BigDecimal annuityFactor = grace >= 0 && grace < term ? annuityFactors[r][term - grace] : null;
+            if (!bond.isValidForCalculation() || annuityFactor == null) return;
+
+            ScheduleColumns columns = ScheduleKernel.compute(
+                bond.getFinancedCapital().doubleValue(),
+                teps[r],
+                term,
+                grace,
+                bond.getGracePeriodType(),
+                bond.getInsurancePercentage().doubleValue(),
+                bond.getFixedInsurance().doubleValue(),
+                bond.getPeriodicCommission().doubleValue(),
+                annuityFactor
+            );
+
+            int periodsPerYear = bond.getPeriodsPerYear();
+            double initialFlow = bond.getFinancedCapital().subtract(bond.getInitialCommission()).doubleValue();
+            double tir = ResultsKernel.tir(initialFlow, columns.totalPayment(), teps[r].doubleValue());
+
+            if (Double.isNaN(tir)) return;
+
+            result.cuota()[index] = columns.basePayment()[grace];
+            result.tir()[index] = tir;
+            result.tcea()[index] = ResultsKernel.tcea(tir, periodsPerYear);
+            if (bond.getDiscountRate().signum() > 0) {
+                result.van()[index] = ResultsKernel.van(initialFlow, columns.totalPayment(),
+                    bond.getDiscountRate().doubleValue(), periodsPerYear);
+            }
+        } catch (RuntimeException e) {
+            // Una celda que no se puede calcular queda inválida sin abortar el resto de la grilla
+            markInvalid(result, index);
+        }
+    }
+
+    private static void markInvalid(SweepResult result, int index) {
+        result.cuota()[index] = Double.NaN;
+        result.tir()[index] = Double.NaN;
+        result.tcea()[index] = Double.NaN;
+        result.van()[index] = Double.NaN;
+    }
+}
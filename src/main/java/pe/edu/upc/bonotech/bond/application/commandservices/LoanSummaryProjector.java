@@ -0,0 +1,93 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.entities.LoanSummary;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.LoanSummaryRepository;
+
+/**
+ * Mantiene la tabla de lectura loan_summaries a partir de los Bond. Se invoca dentro de la
+ * transacción del comando, de modo que la fila y el Bond se confirman o revierten juntos.
+ */
+@Service
+@Transactional
+public class LoanSummaryProjector {
+
+    @Autowired
+    private LoanSummaryRepository loanSummaryRepository;
+
+    @Autowired
+    private BondRepository bondRepository;
+
+    @Autowired
+    private ScheduleRegenerator scheduleRegenerator;
+
+    /**
+     * Inserta la fila de una simulación recién persistida (sin SELECT previo)
+     */
+    public void created(Bond bond) {
+        loanSummaryRepository.save(LoanSummary.of(bond));
+    }
+
+    /**
+     * Inserta las filas de un lote de simulaciones recién persistidas
+     */
+    public void createdAll(List<Bond> bonds) {
+        loanSummaryRepository.saveAll(bonds.stream().map(LoanSummary::of).toList());
+    }
+
+    /**
+     * Actualiza la fila de una simulación modificada; la crea si aún no existía
+     */
+    public void updated(Bond bond) {
+        loanSummaryRepository.findById(bond.getId())
+            .ifPresentOrElse(summary -> summary.refresh(bond), () -> created(bond));
+    }
+
+    /**
+     * Elimina la fila de una simulación borrada
+     */
+    public void deleted(Long bondId) {
+        loanSummaryRepository.deleteBySimulationId(bondId);
+    }
+
+    /**
+     * Elimina las filas de las simulaciones de un usuario borradas en bloque
+     */
+    public void deletedForUser(Long userId, ECurrency currency, Instant createdBefore) {
+        loanSummaryRepository.deleteByUser(userId, currency, createdBefore);
+    }
+
+    /**
+     * Obtiene el siguiente bloque de simulaciones sin fila en loan_summaries
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findMissingIds(Long afterId, int limit) {
+        return bondRepository.findIdsWithoutSummary(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Crea las filas de un bloque de simulaciones existentes (una transacción por bloque)
+     */
+    public int backfill(List<Long> bondIds) {
+        int created = 0;
+        for (Long bondId : bondIds) {
+            var bondOpt = bondRepository.findWithFlowsById(bondId);
+            if (bondOpt.isEmpty()) continue;
+
+            created(scheduleRegenerator.attachSchedule(bondOpt.get()));
+            created++;
+        }
+        return created;
+    }
+}
@@ -0,0 +1,86 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+
+/**
+ * Migra cronogramas almacenados como filas de flows al formato empaquetado o regenerado
+ */
+@Service
+public class ScheduleStorageMigrationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleStorageMigrationService.class);
+
+    @Autowired
+    private BondRepository bondRepository;
+
+    @Autowired
+    private ScheduleRegenerator scheduleRegenerator;
+
+    /**
+     * Obtiene el siguiente bloque de simulaciones pendientes de migrar
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds(Long afterId, int limit) {
+        return bondRepository.findIdsByScheduleStorage(EScheduleStorage.ROWS, afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Empaqueta el cronograma de una simulación; las filas de flows se eliminan por orphanRemoval
+     */
+    @Transactional
+    public boolean migrateToPacked(Long bondId) {
+        var bondOpt = bondRepository.findById(bondId);
+        if (bondOpt.isEmpty()) return false;
+
+        var bond = bondOpt.get();
+        bond.packSchedule();
+        bondRepository.save(bond);
+        return true;
+    }
+
+    /**
+     * Deja de almacenar el cronograma de una simulación, solo si el regenerado coincide al céntimo
+     * con el almacenado; en caso contrario se conserva en filas
+     */
+    @Transactional
+    public boolean migrateToRegenerated(Long bondId) {
+        var bondOpt = bondRepository.findById(bondId);
+        if (bondOpt.isEmpty()) return false;
+
+        var bond = bondOpt.get();
+        var mismatches = scheduleRegenerator.verify(bond);
+        if (!mismatches.isEmpty()) {
+            LOGGER.warn("Simulación {} no se puede regenerar: {}", bondId, mismatches);
+            return false;
+        }
+
+        bond.dropStoredSchedule();
+        bondRepository.save(bond);
+        return true;
+    }
+
+    /**
+     * Revierte una simulación al almacenamiento por filas
+     */
+    @Transactional
+    public boolean migrateToRows(Long bondId) {
+        var bondOpt = bondRepository.findById(bondId);
+        if (bondOpt.isEmpty()) return false;
+
+        var bond = scheduleRegenerator.attachSchedule(bondOpt.get());
+        bond.unpackSchedule();
+        bondRepository.save(bond);
+        return true;
+    }
+}
@@ -0,0 +1,151 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
+
+/**
+ * Motor de cronograma original: todas las operaciones en BigDecimal
+ */
+public class BigDecimalScheduleEngine implements ScheduleEngine {
+
+    @Override
+    public List<Flow> generate(Bond bond) {
+        List<Flow> flows = new ArrayList<>(bond.getTotalMonths());
+
+        BigDecimal saldo = bond.getFinancedCapital();
+        BigDecimal tep = FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency());
+        int totalPeriods = bond.getTotalMonths();
+        int gracePeriods = bond.getGracePeriodMonths();
+        EGracePeriodType graceType = bond.getGracePeriodType();
+        
+        // 1. Períodos de gracia
+        for (int period = 1; period <= gracePeriods; period++) {
+            Flow flow = createGracePeriodFlow(bond, period, saldo, tep, graceType);
+            flows.add(flow);
+            
+            // Actualizar saldo según tipo de gracia
+            if (graceType == EGracePeriodType.TOTAL) {
+                // Gracia total: intereses se capitalizan
+                BigDecimal interest = saldo.multiply(tep);
+                saldo = saldo.add(interest);
+            }
+            // Gracia parcial: saldo se mantiene igual
+        }
+        
+        // 2. Períodos de amortización
+        BigDecimal cuota = FrenchMethod.payment(saldo, tep, totalPeriods - gracePeriods);
+        
+        for (int period = gracePeriods + 1; period <= totalPeriods; period++) {
+            Flow flow = createAmortizationFlow(bond, period, saldo, cuota, tep);
+            flows.add(flow);
+            
+            // Actualizar saldo
+            BigDecimal interest = saldo.multiply(tep);
+            BigDecimal amortization = cuota.subtract(interest);
+            saldo = saldo.subtract(amortization);
+        }
+        
+        // Asegurar que el último saldo sea cero (ajuste por redondeo)
+        adjustFinalBalance(flows);
+        return flows;
+    }
+
+    /**
+     * Crea un flujo para período de gracia
+     */
+    private Flow createGracePeriodFlow(Bond bond, int period, BigDecimal saldo, BigDecimal tep, EGracePeriodType graceType) {
+        BigDecimal interest = saldo.multiply(tep);
+        BigDecimal insurance = calculateInsurance(bond, saldo);
+        
+        BigDecimal basePayment = BigDecimal.ZERO;
+        BigDecimal totalPayment = BigDecimal.ZERO;
+        
+        if (graceType == EGracePeriodType.PARTIAL) {
+            // Gracia parcial: solo se pagan intereses
+            basePayment = interest;
+            totalPayment = basePayment.add(insurance).add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
+        } else {
+            // Gracia total: no se paga nada, intereses se capitalizan
+            totalPayment = insurance.add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
+        }
+        
+        return new Flow(
+            bond,
+            period,
+            graceType == EGracePeriodType.TOTAL ? "GRACE_TOTAL" : "GRACE_PARTIAL",
+            saldo,
+            graceType == EGracePeriodType.TOTAL ? saldo.add(interest) : saldo, // Saldo final
+            basePayment,
+            interest,
+            BigDecimal.ZERO, // Amortización cero en gracia
+            insurance,
+            bond.getFixedInsurance(),
+            bond.getPeriodicCommission(),
+            totalPayment,
+            tep
+        );
+    }
+
+    /**
+     * Crea un flujo para período de amortización
+     */
+    private Flow createAmortizationFlow(Bond bond, int period, BigDecimal saldo, BigDecimal cuota, BigDecimal tep) {
+        BigDecimal interest = saldo.multiply(tep);
+        BigDecimal amortization = cuota.subtract(interest);
+        BigDecimal insurance = calculateInsurance(bond, saldo);
+        BigDecimal finalBalance = saldo.subtract(amortization).max(BigDecimal.ZERO);
+        
+        BigDecimal totalPayment = cuota.add(insurance).add(bond.getFixedInsurance()).add(bond.getPeriodicCommission());
+        
+        return new Flow(
+            bond,
+            period,
+            "AMORTIZATION",
+            saldo,              // initialBalance
+            finalBalance,      // finalBalance
+            cuota,             // basePayment
+            interest,          // interest
+            amortization,      // amortization
+            insurance,         // insuranceAmount
+            bond.getFixedInsurance(),  // fixedInsuranceAmount
+            bond.getPeriodicCommission(), // commissionAmount
+            totalPayment,      // totalPayment
+            tep                // periodicRate
+        );
+    }
+
+    /**
+     * Calcula seguro desgravamen
+     */
+    private BigDecimal calculateInsurance(Bond bond, BigDecimal saldo) {
+        return saldo.multiply(bond.getInsurancePercentage());
+    }
+
+    /**
+     * Ajusta el saldo final para evitar decimales residuales
+     */
+    private void adjustFinalBalance(List<Flow> flows) {
+        if (flows.isEmpty()) return;
+        
+        Flow lastFlow = flows.get(flows.size() - 1);
+        BigDecimal finalBalance = lastFlow.getFinalBalance();
+        
+        if (finalBalance.abs().compareTo(BigDecimal.valueOf(0.01)) < 0) {
+            lastFlow.setFinalBalance(BigDecimal.ZERO);
+            
+            // Ajustar la última amortización para cuadrar
+            if (lastFlow.isAmortizationPeriod()) {
+                BigDecimal adjustedAmortization = lastFlow.getInitialBalance();
+                lastFlow.setAmortization(adjustedAmortization);
+                lastFlow.setBasePayment(lastFlow.getInterest().add(adjustedAmortization));
+                lastFlow.calculateTotalPayment();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ScheduleColumns;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ScheduleKernel;
+
+/**
+ * Motor de cronograma sobre arreglos primitivos ({@link ScheduleKernel}).
+ * Solo se crean BigDecimal al materializar cada {@link Flow}, redondeados a SCALE.
+ */
+public class PrimitiveScheduleEngine implements ScheduleEngine {
+
+    @Override
+    public List<Flow> generate(Bond bond) {
+        BigDecimal tep = FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency());
+
+        ScheduleColumns s = ScheduleKernel.compute(
+            bond.getFinancedCapital().doubleValue(),
+            tep,
+            bond.getTotalMonths(),
+            bond.getGracePeriodMonths(),
+            bond.getGracePeriodType(),
+            bond.getInsurancePercentage().doubleValue(),
+            bond.getFixedInsurance().doubleValue(),
+            bond.getPeriodicCommission().doubleValue()
+        );
+
+        return toFlows(bond, s, tep);
+    }
+
+    /**
+     * Materializa las columnas primitivas como entidades {@link Flow}
+     */
+    public static List<Flow> toFlows(Bond bond, ScheduleColumns s, BigDecimal tep) {
+        List<Flow> flows = new ArrayList<>(s.size());
+        for (int k = 0; k < s.size(); k++) {
+            flows.add(new Flow(
+                bond,
+                k + 1,
+                s.periodTypes()[k],
+                round(s.initialBalance()[k]),
+                round(s.finalBalance()[k]),
+                round(s.basePayment()[k]),
+                round(s.interest()[k]),
+                round(s.amortization()[k]),
+                round(s.insuranceAmount()[k]),
+                round(s.fixedInsuranceAmount()[k]),
+                round(s.commissionAmount()[k]),
+                round(s.totalPayment()[k]),
+                tep
+            ));
+        }
+        return flows;
+    }
+
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(FrenchMethod.SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,22 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+
+/**
+ * Genera el cronograma de pagos completo (períodos de gracia + amortización) de un crédito
+ */
+public interface ScheduleEngine {
+
+    ScheduleEngine BIG_DECIMAL = new BigDecimalScheduleEngine();
+    ScheduleEngine PRIMITIVE = new PrimitiveScheduleEngine();
+
+    List<Flow> generate(Bond bond);
+
+    static ScheduleEngine of(EScheduleEngine type) {
+        return type == EScheduleEngine.PRIMITIVE ? PRIMITIVE : BIG_DECIMAL;
+    }
+}
@@ -0,0 +1,121 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PackedSchedule;
+
+/**
+ * Regenera cronogramas no almacenados (modo REGENERATED).
+ * El cronograma es función pura de los parámetros del crédito; los resultados se guardan
+ * empaquetados en una caché Caffeine acotada con clave (id, updatedAt), de modo que cualquier
+ * modificación del crédito invalida la entrada anterior. La caché bloquea solo por clave:
+ * regenerar un crédito no detiene las lecturas ni regeneraciones de los demás.
+ */
+@Component
+public class ScheduleRegenerator {
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("0.005");
+
+    private final EScheduleEngine defaultScheduleEngine;
+    private final Cache<ScheduleKey, byte[]> cache;
+
+    private record ScheduleKey(Long bondId, Instant updatedAt) {
+    }
+
+    public ScheduleRegenerator(@Value("${app.schedule.regeneration.cache-size:1000}") int cacheSize,
+                               @Value("${app.schedule.engine:BIG_DECIMAL}") EScheduleEngine defaultScheduleEngine) {
+        this.defaultScheduleEngine = defaultScheduleEngine;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .build();
+    }
+
+    /**
+     * Adjunta el cronograma regenerado si el crédito no lo almacena
+     */
+    public Bond attachSchedule(Bond bond) {
+        if (bond.requiresScheduleRegeneration()) {
+            bond.attachSchedule(regenerate(bond));
+        }
+        return bond;
+    }
+
+    /**
+     * Regenera el cronograma (o lo obtiene de la caché) con la misma precisión que las filas almacenadas
+     */
+    public List<Flow> regenerate(Bond bond) {
+        if (bond.getId() == null || bond.getUpdatedAt() == null) {
+            return PackedSchedule.decode(PackedSchedule.encode(generate(bond)), bond);
+        }
+
+        byte[] packed = cache.get(
+            new ScheduleKey(bond.getId(), bond.getUpdatedAt()),
+            key -> PackedSchedule.encode(generate(bond))
+        );
+        return PackedSchedule.decode(packed, bond);
+    }
+
+    /**
+     * Verifica que el cronograma almacenado coincida al céntimo con el regenerado.
+     * Devuelve la lista de diferencias encontradas (vacía si es consistente).
+     */
+    public List<String> verify(Bond bond) {
+        List<Flow> stored = bond.getSchedule();
+        List<Flow> regenerated = generate(bond);
+        List<String> mismatches = new ArrayList<>();
+
+        if (stored.size() != regenerated.size()) {
+            mismatches.add("Cantidad de períodos: " + stored.size() + " almacenados, " + regenerated.size() + " regenerados");
+            return mismatches;
+        }
+
+        for (int i = 0; i < stored.size(); i++) {
+            Flow s = stored.get(i);
+            Flow r = regenerated.get(i);
+            if (!r.getPeriodType().equals(s.getPeriodType())) {
+                mismatches.add("Período " + r.getPeriodNumber() + ": periodType");
+            }
+            compare(mismatches, s, r, Flow::getInitialBalance, "initialBalance");
+            compare(mismatches, s, r, Flow::getFinalBalance, "finalBalance");
+            compare(mismatches, s, r, Flow::getBasePayment, "basePayment");
+            compare(mismatches, s, r, Flow::getInterest, "interest");
+            compare(mismatches, s, r, Flow::getAmortization, "amortization");
+            compare(mismatches, s, r, Flow::getInsuranceAmount, "insuranceAmount");
+            compare(mismatches, s, r, Flow::getFixedInsuranceAmount, "fixedInsuranceAmount");
+            compare(mismatches, s, r, Flow::getCommissionAmount, "commissionAmount");
+            compare(mismatches, s, r, Flow::getTotalPayment, "totalPayment");
+        }
+        return mismatches;
+    }
+
+    private List<Flow> generate(Bond bond) {
+        EScheduleEngine engine = bond.getScheduleEngine() != null ? bond.getScheduleEngine() : defaultScheduleEngine;
+        return ScheduleEngine.of(engine).generate(bond);
+    }
+
+    private static void compare(List<String> mismatches, Flow stored, Flow regenerated,
+                                Function<Flow, BigDecimal> field, String name) {
+        BigDecimal s = field.apply(stored);
+        BigDecimal r = field.apply(regenerated);
+        if (s == null || r == null) {
+            if (s != r) mismatches.add("Período " + regenerated.getPeriodNumber() + ": " + name);
+            return;
+        }
+        if (s.subtract(r).abs().compareTo(TOLERANCE) >= 0) {
+            mismatches.add("Período " + regenerated.getPeriodNumber() + ": " + name + " " + s + " ≠ " + r);
+        }
+    }
+}
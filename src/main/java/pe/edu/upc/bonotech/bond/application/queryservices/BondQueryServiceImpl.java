@@ -1,54 +1,163 @@
 package pe.edu.upc.bonotech.bond.application.queryservices;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
 import pe.edu.upc.bonotech.bond.domain.services.IBondQueryService;
 import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.FlowRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.LoanSummaryRepository;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetCursor;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetPage;
 
+/**
+ * Consultas de simulaciones: todas en transacciones de solo lectura (enrutables a una réplica)
+ */
 @Service
+@Transactional(readOnly = true)
 public class BondQueryServiceImpl implements IBondQueryService {
 
     @Autowired
     private BondRepository bondRepository;
 
+    @Autowired
+    private FlowRepository flowRepository;
+
+    @Autowired
+    private LoanSummaryRepository loanSummaryRepository;
+
+    @Autowired
+    private ScheduleRegenerator scheduleRegenerator;
+
     @Override
-    public List<Bond> getLoansByUserId(Long userId) {
-        return bondRepository.findByUserId(userId);
+    public KeysetPage<BondSummary> getLoanSummariesByUserId(Long userId, KeysetCursor cursor, int limit) {
+        var rows = loanSummaryRepository.findByUserId(userId, cursor.createdAt(), cursor.id(), oneMore(limit));
+        return KeysetPage.of(rows, limit, BondQueryServiceImpl::cursorOf);
     }
     
     @Override
     public Optional<Bond> getLoanById(Long loanId) {
-        return bondRepository.findById(loanId);
+        return findWithSchedule(loanId);
     }
     
     @Override
-    public List<Bond> getLoansByCurrency(String currency) {
+    public KeysetPage<BondSummary> getLoansByCurrency(String currency, KeysetCursor cursor, int limit) {
+        ECurrency currencyEnum;
         try {
-            ECurrency currencyEnum = ECurrency.valueOf(currency.toUpperCase());
-            return bondRepository.findByCurrency(currencyEnum);
+            currencyEnum = ECurrency.valueOf(currency.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Moneda no válida: " + currency);
         }
+        var rows = loanSummaryRepository.findByCurrency(currencyEnum, cursor.createdAt(), cursor.id(), oneMore(limit));
+        return KeysetPage.of(rows, limit, BondQueryServiceImpl::cursorOf);
+    }
+    
+    @Override
+    public KeysetPage<BondSummary> getLoansWithBBP(KeysetCursor cursor, int limit) {
+        var rows = loanSummaryRepository.findWithBBP(cursor.createdAt(), cursor.id(), oneMore(limit));
+        return KeysetPage.of(rows, limit, BondQueryServiceImpl::cursorOf);
     }
     
     @Override
-    public List<Bond> getLoansWithBBP() {
-        return bondRepository.findLoansWithBBP();
+    public KeysetPage<BondSummary> getLoansByAmountRange(BigDecimal minAmount, BigDecimal maxAmount,
+                                                         KeysetCursor cursor, int limit) {
+        if (minAmount == null || maxAmount == null || minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Rango de montos no válido: " + minAmount + " - " + maxAmount);
+        }
+        var rows = loanSummaryRepository.findByLoanAmountRange(minAmount, maxAmount,
+            cursor.createdAt(), cursor.id(), oneMore(limit));
+        return KeysetPage.of(rows, limit, BondQueryServiceImpl::cursorOf);
     }
     
     @Override
-    public List<Bond> getRecentLoans(int limit) {
-        // Para límites diferentes a 10, necesitarías un método personalizado
-        return bondRepository.findTop10ByOrderByCreatedAtDesc();
+    public KeysetPage<BondSummary> getRecentLoans(KeysetCursor cursor, int limit) {
+        var rows = loanSummaryRepository.findRecent(cursor.createdAt(), cursor.id(), oneMore(limit));
+        return KeysetPage.of(rows, limit, BondQueryServiceImpl::cursorOf);
     }
+
     @Override
     public Optional<Bond> getBondById(Long id) {
-        return bondRepository.findById(id);
+        return findWithSchedule(id);
+    }
+
+    /**
+     * Fuera de solo lectura para no ir a una réplica: tras un conflicto el cliente necesita la última versión
+     */
+    @Override
+    @Transactional
+    public Optional<Long> getCurrentVersion(Long loanId) {
+        return bondRepository.findVersionById(loanId);
+    }
+
+    @Override
+    public Optional<EScheduleStorage> getScheduleStorage(Long loanId) {
+        return bondRepository.findScheduleStorageById(loanId);
+    }
+
+    @Override
+    public void streamAmortizationTable(Long loanId, int from, int to, Consumer<ScheduleRow> consumer) {
+        var storage = bondRepository.findScheduleStorageById(loanId).orElse(EScheduleStorage.ROWS);
+
+        if (storage == EScheduleStorage.ROWS) {
+            try (Stream<ScheduleRow> rows = flowRepository.streamSchedule(loanId, from, to)) {
+                rows.forEach(consumer);
+            }
+            return;
+        }
+
+        // PACKED / REGENERATED: el cronograma ya es compacto, se filtra en memoria
+        getLoanById(loanId).ifPresent(bond -> bond.getSchedule().stream()
+            .filter(flow -> flow.getPeriodNumber() >= from && flow.getPeriodNumber() <= to)
+            .map(ScheduleRow::fromFlow)
+            .forEach(consumer));
+    }
+
+    @Override
+    public Optional<List<BigDecimal>> getNpvProfile(Long loanId, List<BigDecimal> discountRates) {
+        // ResultsFlow transitorio: el cronograma se decodifica una vez y nada se guarda
+        return getLoanById(loanId).map(bond -> {
+            ResultsFlow profile = new ResultsFlow();
+            profile.setBond(bond);
+            return profile.calculateVANProfile(discountRates);
+        });
+    }
+
+    /**
+     * Carga por id para pasar por la caché de segundo nivel (Bond y colección flows);
+     * una consulta con EntityGraph iría siempre a la base de datos
+     */
+    private Optional<Bond> findWithSchedule(Long id) {
+        return bondRepository.findById(id).map(bond -> {
+            Hibernate.initialize(bond.getFlows());
+            return scheduleRegenerator.attachSchedule(bond);
+        });
+    }
+
+    /**
+     * Se pide una fila más que el límite solo para saber si hay página siguiente
+     */
+    private static Pageable oneMore(int limit) {
+        return PageRequest.ofSize(limit + 1);
+    }
+
+    private static KeysetCursor cursorOf(BondSummary summary) {
+        return new KeysetCursor(summary.createdAt(), summary.id());
     }
-}
\ No newline at end of file
+}
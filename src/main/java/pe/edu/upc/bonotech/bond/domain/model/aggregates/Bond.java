@@ -3,23 +3,38 @@ package pe.edu.upc.bonotech.bond.domain.model.aggregates;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
 import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECapitalizationPeriod;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EInterestType;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EPaymentFrequency;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PackedSchedule;
 import pe.edu.upc.bonotech.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Bond.CACHE_REGION)
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +42,10 @@ public class Bond extends AuditableAbstractAggregateRoot<Bond> {
 
     private static final int SCALE = 10;
 
+    // Regiones de la caché de segundo nivel (configuradas por nombre en application.conf)
+    public static final String CACHE_REGION = "bonds";
+    public static final String FLOWS_CACHE_REGION = "bond-flows";
+
     // === DATOS DEL USUARIO Y IDENTIFICACIÓN ===
     @NotNull
     private Long userId;
@@ -121,12 +140,32 @@ public class Bond extends AuditableAbstractAggregateRoot<Bond> {
     private BigDecimal discountRate;                  // Tasa de descuento para VAN
 
     // === RELACIONES ===
-    @OneToMany(mappedBy = "bond", fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "bond", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("periodNumber")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = FLOWS_CACHE_REGION)
     private List<Flow> flows = new ArrayList<>();
 
     @OneToOne(mappedBy = "bond", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private ResultsFlow resultsFlow;
 
+    // === ALMACENAMIENTO DEL CRONOGRAMA ===
+    @Enumerated(EnumType.STRING)
+    private EScheduleStorage scheduleStorage = EScheduleStorage.ROWS;
+
+    @Enumerated(EnumType.STRING)
+    private EScheduleEngine scheduleEngine;           // Motor usado (para regenerar en modo REGENERATED)
+
+    @Lob
+    private byte[] packedSchedule;                    // Cronograma columnar (modo PACKED)
+
+    @Transient
+    private List<Flow> scheduleView;                  // Cronograma decodificado o regenerado (no persistido)
+
+    // === CONTROL DE CONCURRENCIA ===
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;                             // Versión optimista (la gestiona Hibernate)
+
     // === CONSTRUCTOR PRINCIPAL ===
     public Bond(CreateBondCommand command) {
         this.userId = command.userId();
@@ -197,13 +236,7 @@ public class Bond extends AuditableAbstractAggregateRoot<Bond> {
         if (this.interestType == EInterestType.NOMINAL) {
             int daysOfCap = getDaysFromCapitalizationPeriod(this.capitalizationPeriod);
             
-            BigDecimal m = BigDecimal.valueOf(360).divide(BigDecimal.valueOf(daysOfCap), SCALE, BigDecimal.ROUND_HALF_UP);
-            BigDecimal rateDivM = this.annualRate.divide(m, SCALE, BigDecimal.ROUND_HALF_UP);
-            BigDecimal base = BigDecimal.ONE.add(rateDivM);
-            
-            this.annualRate = BigDecimal.valueOf(Math.pow(base.doubleValue(), m.doubleValue()))
-                    .subtract(BigDecimal.ONE)
-                    .setScale(SCALE, BigDecimal.ROUND_HALF_UP);
+            this.annualRate = FrenchMethod.effectiveAnnualRate(this.annualRate, daysOfCap);
                     
             this.interestType = EInterestType.EFFECTIVE; // Ahora es efectiva
         }
@@ -253,6 +286,146 @@ public class Bond extends AuditableAbstractAggregateRoot<Bond> {
                this.annualRate.compareTo(BigDecimal.ZERO) >= 0;
     }
     
+    // === CRONOGRAMA ===
+
+    /**
+     * Obtiene el cronograma sin importar el modo de almacenamiento.
+     * En modo PACKED el blob se decodifica la primera vez que se solicita; en modo REGENERATED
+     * devuelve el cronograma adjuntado con {@link #attachSchedule(List)}.
+     */
+    public List<Flow> getSchedule() {
+        if (this.scheduleStorage == EScheduleStorage.PACKED) {
+            if (this.scheduleView == null) {
+                this.scheduleView = PackedSchedule.decode(this.packedSchedule, this);
+            }
+            return this.scheduleView;
+        }
+        if (this.scheduleStorage == EScheduleStorage.REGENERATED) {
+            return this.scheduleView != null ? this.scheduleView : List.of();
+        }
+        return this.flows;
+    }
+
+    /**
+     * Adjunta un cronograma calculado fuera del agregado (modo REGENERATED)
+     */
+    public void attachSchedule(List<Flow> schedule) {
+        this.scheduleView = schedule;
+    }
+
+    /**
+     * Indica si el cronograma debe regenerarse antes de usarse
+     */
+    public boolean requiresScheduleRegeneration() {
+        return this.scheduleStorage == EScheduleStorage.REGENERATED && this.scheduleView == null;
+    }
+
+    /**
+     * Codifica el cronograma actual en el blob columnar y elimina las filas de flows
+     */
+    public void packSchedule() {
+        List<Flow> schedule = new ArrayList<>(getSchedule());
+        this.packedSchedule = PackedSchedule.encode(schedule);
+        this.scheduleView = schedule;
+        this.flows.clear();
+        this.scheduleStorage = EScheduleStorage.PACKED;
+    }
+
+    /**
+     * Deja de almacenar el cronograma: se conserva solo en memoria y se regenerará al leer
+     */
+    public void dropStoredSchedule() {
+        List<Flow> schedule = new ArrayList<>(getSchedule());
+        this.scheduleView = schedule;
+        this.flows.clear();
+        this.packedSchedule = null;
+        this.scheduleStorage = EScheduleStorage.REGENERATED;
+    }
+
+    /**
+     * Restaura el cronograma como filas de flows a partir del blob o del cronograma regenerado
+     */
+    public void unpackSchedule() {
+        if (this.scheduleStorage != EScheduleStorage.PACKED && this.scheduleStorage != EScheduleStorage.REGENERATED) return;
+
+        List<Flow> schedule = new ArrayList<>(getSchedule());
+        this.flows.clear();
+        this.flows.addAll(schedule);
+        this.packedSchedule = null;
+        this.scheduleView = null;
+        this.scheduleStorage = EScheduleStorage.ROWS;
+    }
+
+    /**
+     * Reemplaza el cronograma por uno recién calculado; queda almacenado como filas
+     * hasta que se aplique el modo de almacenamiento configurado.
+     * Los flows existentes se reutilizan por número de período (se actualizan en sitio);
+     * solo se insertan o eliminan los períodos sobrantes cuando cambia el plazo.
+     */
+    public void replaceSchedule(List<Flow> schedule) {
+        Map<Integer, Flow> existing = new HashMap<>();
+        for (Flow flow : this.flows) {
+            existing.put(flow.getPeriodNumber(), flow);
+        }
+
+        List<Flow> added = new ArrayList<>();
+        for (Flow flow : schedule) {
+            Flow current = existing.remove(flow.getPeriodNumber());
+            if (current != null) {
+                current.copyScheduleValues(flow);
+            } else {
+                added.add(flow);
+            }
+        }
+
+        if (!existing.isEmpty()) {
+            this.flows.removeAll(existing.values());
+        }
+        this.flows.addAll(added);
+        this.flows.sort(Comparator.comparing(Flow::getPeriodNumber));
+
+        this.packedSchedule = null;
+        this.scheduleView = null;
+        this.scheduleStorage = EScheduleStorage.ROWS;
+    }
+
+    /**
+     * Actualiza seguros y comisión periódica del cronograma sin regenerarlo.
+     * Solo se modifican los períodos cuyos montos cambian; devuelve cuántos fueron.
+     */
+    public int applyPeriodicCosts() {
+        int changed = 0;
+        for (Flow flow : getSchedule()) {
+            BigDecimal insurance = flow.getInitialBalance().multiply(this.insurancePercentage);
+            if (differs(flow.getInsuranceAmount(), insurance)
+                    || differs(flow.getFixedInsuranceAmount(), this.fixedInsurance)
+                    || differs(flow.getCommissionAmount(), this.periodicCommission)) {
+                flow.setInsuranceAmount(insurance);
+                flow.setFixedInsuranceAmount(this.fixedInsurance);
+                flow.setCommissionAmount(this.periodicCommission);
+                flow.calculateTotalPayment();
+                changed++;
+            }
+        }
+
+        // En modo PACKED el blob se vuelve a codificar con los montos actualizados
+        if (changed > 0 && this.scheduleStorage == EScheduleStorage.PACKED) {
+            packSchedule();
+        }
+        return changed;
+    }
+
+    private static boolean differs(BigDecimal current, BigDecimal updated) {
+        return current == null || current.compareTo(updated) != 0;
+    }
+
+    /**
+     * Convierte la tasa a efectiva anual si se actualizó como nominal
+     */
+    public void normalizeAnnualRate() {
+        convertNominalToEffectiveIfNeeded();
+    }
+
     /**
      * Actualiza el capital financiado (útil cuando cambian montos)
      */
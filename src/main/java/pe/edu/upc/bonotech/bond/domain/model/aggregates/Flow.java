@@ -2,6 +2,10 @@ package pe.edu.upc.bonotech.bond.domain.model.aggregates;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,10 +13,16 @@ import lombok.Setter;
 import pe.edu.upc.bonotech.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 
 @Entity
+@Table(indexes = @Index(name = "idx_flows_bond_period", columnList = "bond_id, period_number"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Flow.CACHE_REGION)
+@BatchSize(size = 50)   // Si la colección está en caché pero algún Flow fue desalojado, se recarga por lotes
 @Getter
 @Setter
 @NoArgsConstructor
 public class Flow extends AuditableAbstractAggregateRoot<Flow> {
+    public static final String CACHE_REGION = "flows";
+
     // Constructor simple requerido por BondCommandService (4 parámetros)
     public Flow(Bond bond, int periodNumber, String periodType, BigDecimal periodicRate) {
         this.bond = bond;
@@ -44,7 +54,7 @@ public class Flow extends AuditableAbstractAggregateRoot<Flow> {
 
     private static final int SCALE = 10;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private Bond bond;
 
     // === IDENTIFICACIÓN DEL PERÍODO ===
@@ -103,6 +113,24 @@ public class Flow extends AuditableAbstractAggregateRoot<Flow> {
             .add(commission);
     }
     
+    /**
+     * Copia los valores calculados de otro flujo del mismo período (actualización en sitio).
+     * Si ningún valor cambió, el dirty checking no escribe la fila.
+     */
+    public void copyScheduleValues(Flow source) {
+        this.periodType = source.periodType;
+        this.initialBalance = source.initialBalance;
+        this.finalBalance = source.finalBalance;
+        this.basePayment = source.basePayment;
+        this.interest = source.interest;
+        this.amortization = source.amortization;
+        this.insuranceAmount = source.insuranceAmount;
+        this.fixedInsuranceAmount = source.fixedInsuranceAmount;
+        this.commissionAmount = source.commissionAmount;
+        this.totalPayment = source.totalPayment;
+        this.periodicRate = source.periodicRate;
+    }
+
     /**
      * Verifica si es un período de gracia
      */
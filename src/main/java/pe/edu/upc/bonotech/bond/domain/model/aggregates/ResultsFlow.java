@@ -1,15 +1,27 @@
 package pe.edu.upc.bonotech.bond.domain.model.aggregates;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.AllArgsConstructor;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.CashFlowEvaluator;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.FrenchMethod;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.IrrSolver;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.ScheduleTotals;
 import pe.edu.upc.bonotech.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ResultsFlow.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +29,8 @@ import pe.edu.upc.bonotech.shared.domain.model.aggregates.AuditableAbstractAggre
 public class ResultsFlow extends AuditableAbstractAggregateRoot<ResultsFlow> {
     private static final int SCALE = 10;
 
+    public static final String CACHE_REGION = "results-flows";
+
     @OneToOne(fetch = FetchType.LAZY)
     private Bond bond;
 
@@ -69,41 +83,132 @@ public class ResultsFlow extends AuditableAbstractAggregateRoot<ResultsFlow> {
 
     // === MÉTODOS DE CÁLCULO ===
     
+    /**
+     * Calcula totales, VAN (si hay tasa de descuento), TIR y TCEA con una sola extracción del
+     * cronograma: los pagos por período y las sumas se leen una vez y todos los indicadores
+     * se derivan de ellos
+     */
+    public void calculateResults(BigDecimal discountRate) {
+        if (bond == null || bond.getSchedule() == null) return;
+        
+        ScheduleExtract extract = ScheduleExtract.of(bond.getSchedule());
+        applyClosedFormTotals(extract);
+        if (discountRate != null && discountRate.compareTo(BigDecimal.ZERO) > 0) {
+            applyVAN(extract, discountRate);
+        }
+        applyTIR(extract);
+    }
+    
     /**
      * Calcula todos los totales basados en los flujos del crédito
      */
     public void calculateTotals() {
-        if (bond == null || bond.getFlows() == null) return;
+        if (bond == null || bond.getSchedule() == null) return;
         
-        this.totalBasePayments = BigDecimal.ZERO;
-        this.totalInterest = BigDecimal.ZERO;
-        this.totalAmortization = BigDecimal.ZERO;
-        this.totalInsurance = BigDecimal.ZERO;
-        this.totalFixedInsurance = BigDecimal.ZERO;
-        this.totalCommissions = BigDecimal.ZERO;
+        applyTotals(ScheduleExtract.of(bond.getSchedule()));
+    }
+
+    /**
+     * Calcula los totales en forma cerrada a partir de cuota, TEP y número de períodos.
+     * Solo el seguro desgravamen (depende del saldo) se acumula desde el cronograma;
+     * si la forma cerrada no aplica (p. ej. TEA cero) se usa {@link #calculateTotals()}.
+     */
+    public void calculateClosedFormTotals() {
+        if (bond == null || bond.getSchedule() == null) return;
+
+        applyClosedFormTotals(ScheduleExtract.of(bond.getSchedule()));
+    }
+    
+    /**
+     * Calcula el VAN basado en los flujos y tasa de descuento
+     */
+    public void calculateVAN(BigDecimal discountRate) {
+        if (bond == null || bond.getSchedule() == null || discountRate == null) return;
         
-        for (Flow flow : bond.getFlows()) {
-            if (flow == null) continue;
-            
-            if (flow.isAmortizationPeriod()) {
-                BigDecimal basePayment = flow.getBasePayment() != null ? flow.getBasePayment() : BigDecimal.ZERO;
-                BigDecimal interest = flow.getInterest() != null ? flow.getInterest() : BigDecimal.ZERO;
-                BigDecimal amortization = flow.getAmortization() != null ? flow.getAmortization() : BigDecimal.ZERO;
-                
-                this.totalBasePayments = this.totalBasePayments.add(basePayment);
-                this.totalInterest = this.totalInterest.add(interest);
-                this.totalAmortization = this.totalAmortization.add(amortization);
-            }
-            
-            BigDecimal insurance = flow.getInsuranceAmount() != null ? flow.getInsuranceAmount() : BigDecimal.ZERO;
-            BigDecimal fixedInsurance = flow.getFixedInsuranceAmount() != null ? flow.getFixedInsuranceAmount() : BigDecimal.ZERO;
-            BigDecimal commission = flow.getCommissionAmount() != null ? flow.getCommissionAmount() : BigDecimal.ZERO;
-            
-            this.totalInsurance = this.totalInsurance.add(insurance);
-            this.totalFixedInsurance = this.totalFixedInsurance.add(fixedInsurance);
-            this.totalCommissions = this.totalCommissions.add(commission);
+        applyVAN(ScheduleExtract.of(bond.getSchedule()), discountRate);
+    }
+    
+    /**
+     * VAN a cada una de las tasas de descuento anuales indicadas, con un solo recorrido del
+     * cronograma; no modifica los resultados guardados
+     */
+    public List<BigDecimal> calculateVANProfile(List<BigDecimal> discountRates) {
+        if (bond == null || bond.getSchedule() == null) return List.of();
+        
+        BigDecimal[] periodicDiscountRates = new BigDecimal[discountRates.size()];
+        for (int j = 0; j < periodicDiscountRates.length; j++) {
+            periodicDiscountRates[j] = calculatePeriodicDiscountRate(discountRates.get(j));
+        }
+        
+        BigDecimal[] payments = ScheduleExtract.of(bond.getSchedule()).payments();
+        return List.of(CashFlowEvaluator.npv(initialFlow(), payments, periodicDiscountRates, SCALE));
+    }
+    
+    /**
+     * Calcula la TIR periódica (Newton/Brent en double, semilla = TEP, refinada en BigDecimal) y la TCEA
+     */
+    public void calculateTIR() {
+        if (bond == null || bond.getSchedule() == null) return;
+        
+        applyTIR(ScheduleExtract.of(bond.getSchedule()));
+    }
+    
+    private void applyTotals(ScheduleExtract extract) {
+        this.totalBasePayments = extract.totalBasePayments();
+        this.totalInterest = extract.totalInterest();
+        this.totalAmortization = extract.totalAmortization();
+        this.totalInsurance = extract.totalInsurance();
+        this.totalFixedInsurance = extract.totalFixedInsurance();
+        this.totalCommissions = extract.totalCommissions();
+        
+        completeTotals();
+    }
+    
+    private void applyClosedFormTotals(ScheduleExtract extract) {
+        Optional<ScheduleTotals> closedForm = ScheduleTotals.closedForm(
+            bond.getFinancedCapital(),
+            FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency()),
+            bond.getTotalMonths(),
+            bond.getGracePeriodMonths(),
+            bond.getGracePeriodType(),
+            bond.getFixedInsurance(),
+            bond.getPeriodicCommission()
+        );
+        if (closedForm.isEmpty()) {
+            applyTotals(extract);
+            return;
         }
+
+        ScheduleTotals totals = closedForm.get();
+        this.totalBasePayments = totals.totalBasePayments();
+        this.totalInterest = totals.totalInterest();
+        this.totalAmortization = totals.totalAmortization();
+        this.totalFixedInsurance = totals.totalFixedInsurance();
+        this.totalCommissions = totals.totalCommissions();
+        this.totalInsurance = extract.totalInsurance();
+
+        completeTotals();
+    }
+    
+    private void applyVAN(ScheduleExtract extract, BigDecimal discountRate) {
+        BigDecimal periodicDiscountRate = calculatePeriodicDiscountRate(discountRate);
         
+        // Flujo inicial (período 0) menos pagos (períodos 1..n) con el factor de descuento acumulado
+        this.van = CashFlowEvaluator.npv(initialFlow(), extract.payments(), periodicDiscountRate, SCALE);
+    }
+    
+    private void applyTIR(ScheduleExtract extract) {
+        double guess = bond.getAnnualRate() != null && bond.getPaymentFrequency() != null
+            ? FrenchMethod.periodicRate(bond.getAnnualRate(), bond.getPaymentFrequency()).doubleValue()
+            : Double.NaN;
+        this.tir = IrrSolver.solve(initialFlow(), extract.payments(), guess, SCALE);
+        this.tcea = this.tir != null ? calculateTCEAFromTIR(this.tir) : null;
+    }
+
+    /**
+     * Calcula los totales derivados (costos, total pagado, costo del crédito, cuota promedio)
+     */
+    private void completeTotals() {
         // Calcular costos totales
         BigDecimal initialCommission = bond.getInitialCommission() != null ? bond.getInitialCommission() : BigDecimal.ZERO;
         BigDecimal finalCommission = bond.getFinalCommission() != null ? bond.getFinalCommission() : BigDecimal.ZERO;
@@ -150,105 +255,71 @@ public class ResultsFlow extends AuditableAbstractAggregateRoot<ResultsFlow> {
     }
     
     /**
-     * Calcula el VAN basado en los flujos y tasa de descuento
+     * Flujo inicial (período 0): desembolso neto para el cliente
      */
-    public void calculateVAN(BigDecimal discountRate) {
-        if (bond == null || bond.getFlows() == null || discountRate == null) return;
-        
-        BigDecimal van = BigDecimal.ZERO;
-        BigDecimal periodicDiscountRate = calculatePeriodicDiscountRate(discountRate);
-        
-        // Flujo inicial (período 0) - desembolso neto para el cliente
+    private BigDecimal initialFlow() {
         BigDecimal financedCapital = bond.getFinancedCapital() != null ? bond.getFinancedCapital() : BigDecimal.ZERO;
         BigDecimal initialCommission = bond.getInitialCommission() != null ? bond.getInitialCommission() : BigDecimal.ZERO;
-        BigDecimal initialFlow = financedCapital.subtract(initialCommission);
-        van = van.add(initialFlow);
-        
-        // Flujos periódicos (períodos 1..n)
-        for (Flow flow : bond.getFlows()) {
-            if (flow == null) continue;
-            
-            Integer periodNumber = flow.getPeriodNumber();
-            if (periodNumber != null && periodNumber > 0) {
-                BigDecimal totalPayment = flow.getTotalPayment() != null ? flow.getTotalPayment() : BigDecimal.ZERO;
-                BigDecimal discountFactor = BigDecimal.ONE.add(periodicDiscountRate)
-                    .pow(periodNumber, java.math.MathContext.DECIMAL128);
-                BigDecimal presentValue = totalPayment.negate() // Negativo porque es pago
-                    .divide(discountFactor, SCALE, BigDecimal.ROUND_HALF_UP);
-                van = van.add(presentValue);
-            }
-        }
-        
-        this.van = van;
-    }
-    
-    /**
-     * Calcula la TIR usando método de aproximación numérica
-     */
-    public void calculateTIR() {
-        if (bond == null || bond.getFlows() == null) return;
-        
-        // Método simplificado - en producción usar algoritmo más robusto
-        BigDecimal lowRate = BigDecimal.valueOf(0.0001);   // 0.01%
-        BigDecimal highRate = BigDecimal.valueOf(2.0);     // 200%
-        BigDecimal precision = BigDecimal.valueOf(0.0001); // 0.01%
-        
-        this.tir = calculateTIRBinarySearch(lowRate, highRate, precision);
-        this.tcea = calculateTCEAFromTIR(this.tir);
+        return financedCapital.subtract(initialCommission);
     }
     
     /**
-     * Búsqueda binaria para encontrar TIR
+     * Lo que los indicadores necesitan del cronograma, leído en una sola pasada: pagos totales
+     * por período (posición k-1 para el período k) y las sumas de cada columna
      */
-    private BigDecimal calculateTIRBinarySearch(BigDecimal low, BigDecimal high, BigDecimal precision) {
-        BigDecimal mid = BigDecimal.ZERO;
-        
-        for (int i = 0; i < 100; i++) { // Límite de iteraciones
-            mid = low.add(high).divide(BigDecimal.valueOf(2), SCALE, BigDecimal.ROUND_HALF_UP);
+    private record ScheduleExtract(
+        BigDecimal[] payments,
+        BigDecimal totalBasePayments,
+        BigDecimal totalInterest,
+        BigDecimal totalAmortization,
+        BigDecimal totalInsurance,
+        BigDecimal totalFixedInsurance,
+        BigDecimal totalCommissions
+    ) {
+        static ScheduleExtract of(List<Flow> schedule) {
+            BigDecimal[] payments = new BigDecimal[schedule.size()];
+            int periods = 0;
+            BigDecimal basePayments = BigDecimal.ZERO;
+            BigDecimal interest = BigDecimal.ZERO;
+            BigDecimal amortization = BigDecimal.ZERO;
+            BigDecimal insurance = BigDecimal.ZERO;
+            BigDecimal fixedInsurance = BigDecimal.ZERO;
+            BigDecimal commissions = BigDecimal.ZERO;
             
-            BigDecimal vanMid = calculateVANForRate(mid);
-            
-            if (vanMid.abs().compareTo(precision) <= 0) {
-                break; // Encontrado
-            } else if (vanMid.compareTo(BigDecimal.ZERO) > 0) {
-                low = mid;
-            } else {
-                high = mid;
+            for (Flow flow : schedule) {
+                if (flow == null) continue;
+                
+                if (flow.isAmortizationPeriod()) {
+                    basePayments = add(basePayments, flow.getBasePayment());
+                    interest = add(interest, flow.getInterest());
+                    amortization = add(amortization, flow.getAmortization());
+                }
+                insurance = add(insurance, flow.getInsuranceAmount());
+                fixedInsurance = add(fixedInsurance, flow.getFixedInsuranceAmount());
+                commissions = add(commissions, flow.getCommissionAmount());
+                
+                Integer periodNumber = flow.getPeriodNumber();
+                if (periodNumber != null && periodNumber > 0) {
+                    if (periodNumber > payments.length) {
+                        payments = Arrays.copyOf(payments, periodNumber);
+                    }
+                    periods = Math.max(periods, periodNumber);
+                    payments[periodNumber - 1] = add(payments[periodNumber - 1], flow.getTotalPayment());
+                }
             }
-        }
-        
-        return mid;
-    }
-    
-    /**
-     * Calcula VAN para una tasa dada
-     */
-    private BigDecimal calculateVANForRate(BigDecimal rate) {
-        BigDecimal van = BigDecimal.ZERO;
-        BigDecimal periodicRate = calculatePeriodicDiscountRate(rate);
-        
-        // Flujo inicial
-        BigDecimal financedCapital = bond.getFinancedCapital() != null ? bond.getFinancedCapital() : BigDecimal.ZERO;
-        BigDecimal initialCommission = bond.getInitialCommission() != null ? bond.getInitialCommission() : BigDecimal.ZERO;
-        BigDecimal initialFlow = financedCapital.subtract(initialCommission);
-        van = van.add(initialFlow);
-        
-        // Flujos periódicos
-        for (Flow flow : bond.getFlows()) {
-            if (flow == null) continue;
             
-            Integer periodNumber = flow.getPeriodNumber();
-            if (periodNumber != null && periodNumber > 0) {
-                BigDecimal totalPayment = flow.getTotalPayment() != null ? flow.getTotalPayment() : BigDecimal.ZERO;
-                BigDecimal discountFactor = BigDecimal.ONE.add(periodicRate)
-                    .pow(periodNumber, java.math.MathContext.DECIMAL128);
-                BigDecimal presentValue = totalPayment.negate()
-                    .divide(discountFactor, SCALE, BigDecimal.ROUND_HALF_UP);
-                van = van.add(presentValue);
+            payments = Arrays.copyOf(payments, periods);
+            for (int k = 0; k < periods; k++) {
+                if (payments[k] == null) payments[k] = BigDecimal.ZERO;
             }
+            return new ScheduleExtract(payments, basePayments, interest, amortization,
+                insurance, fixedInsurance, commissions);
         }
         
-        return van;
+        private static BigDecimal add(BigDecimal total, BigDecimal value) {
+            if (value == null) return total != null ? total : BigDecimal.ZERO;
+            return total != null ? total.add(value) : value;
+        }
     }
     
     /**
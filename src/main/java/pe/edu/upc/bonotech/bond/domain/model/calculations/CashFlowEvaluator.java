@@ -0,0 +1,135 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Flujo de caja de un crédito desde el punto de vista del cliente: F0 recibido en el período 0
+ * y pagos_k en los períodos k = 1..n. Evalúa VAN(p) = F0 − Σ pagos_k / (1 + p)^k arrastrando el
+ * factor de descuento entre períodos (una multiplicación por flujo, sin potencias), de modo que
+ * VAN, TIR y cualquier indicador futuro compartan la misma pasada.
+ */
+public final class CashFlowEvaluator {
+
+    private final double initialFlow;
+    private final double[] payments;
+
+    /**
+     * @param initialFlow flujo inicial recibido (capital financiado − comisión inicial)
+     * @param payments    pago total del período k en la posición k − 1
+     */
+    public CashFlowEvaluator(double initialFlow, double[] payments) {
+        this.initialFlow = initialFlow;
+        this.payments = payments;
+    }
+
+    public double initialFlow() {
+        return initialFlow;
+    }
+
+    public int periods() {
+        return payments.length;
+    }
+
+    /**
+     * Suma de los pagos sin descontar
+     */
+    public double totalPayments() {
+        double total = 0;
+        for (double payment : payments) total += payment;
+        return total;
+    }
+
+    /**
+     * VAN a una tasa periódica
+     */
+    public double npv(double rate) {
+        double v = 1 / (1 + rate);
+        double discount = 1.0;
+        double npv = initialFlow;
+        for (double payment : payments) {
+            discount *= v;
+            npv -= payment * discount;
+        }
+        return npv;
+    }
+
+    /**
+     * VAN y su derivada respecto a la tasa periódica en una sola pasada:
+     * d/dp [pagos_k · v^k] = −k · pagos_k · v^(k+1), con v = 1 / (1 + p)
+     *
+     * @return {VAN, dVAN/dp}
+     */
+    public double[] npvAndDerivative(double rate) {
+        double v = 1 / (1 + rate);
+        double discount = 1.0;
+        double npv = initialFlow;
+        double derivative = 0.0;
+        for (int k = 0; k < payments.length; k++) {
+            discount *= v;
+            double presentValue = payments[k] * discount;
+            npv -= presentValue;
+            derivative += (k + 1) * presentValue * v;
+        }
+        return new double[]{npv, derivative};
+    }
+
+    /**
+     * VAN exacto en BigDecimal con el mismo factor de descuento acumulado (DECIMAL128);
+     * cada valor presente se redondea a {@code scale} como en el cálculo de ResultsFlow
+     */
+    public static BigDecimal npv(BigDecimal initialFlow, BigDecimal[] payments, BigDecimal periodicRate, int scale) {
+        return npv(initialFlow, payments, new BigDecimal[]{periodicRate}, scale)[0];
+    }
+
+    /**
+     * VAN a varias tasas periódicas en un solo recorrido de los pagos: cada tasa arrastra su
+     * propio factor de descuento y el resultado de cada una es idéntico al cálculo individual
+     */
+    public static BigDecimal[] npv(BigDecimal initialFlow, BigDecimal[] payments, BigDecimal[] periodicRates, int scale) {
+        int rates = periodicRates.length;
+        BigDecimal[] growth = new BigDecimal[rates];
+        BigDecimal[] discountFactors = new BigDecimal[rates];
+        BigDecimal[] npv = new BigDecimal[rates];
+        for (int j = 0; j < rates; j++) {
+            growth[j] = BigDecimal.ONE.add(periodicRates[j]);
+            discountFactors[j] = BigDecimal.ONE;
+            npv[j] = initialFlow;
+        }
+
+        for (BigDecimal payment : payments) {
+            boolean skip = payment == null || payment.signum() == 0;
+            for (int j = 0; j < rates; j++) {
+                discountFactors[j] = discountFactors[j].multiply(growth[j], MathContext.DECIMAL128);
+                if (skip) continue;
+
+                npv[j] = npv[j].subtract(payment.divide(discountFactors[j], scale, RoundingMode.HALF_UP));
+            }
+        }
+        return npv;
+    }
+
+    /**
+     * VAN y derivada en BigDecimal con el factor de descuento acumulado, para refinar en
+     * precisión decimal una raíz ya aproximada en double
+     *
+     * @return {VAN, dVAN/dp}
+     */
+    public static BigDecimal[] npvAndDerivative(BigDecimal initialFlow, BigDecimal[] payments,
+                                                BigDecimal rate, MathContext mathContext) {
+        BigDecimal v = BigDecimal.ONE.divide(BigDecimal.ONE.add(rate), mathContext);
+        BigDecimal discount = BigDecimal.ONE;
+        BigDecimal npv = initialFlow;
+        BigDecimal weighted = BigDecimal.ZERO;
+        for (int k = 0; k < payments.length; k++) {
+            discount = discount.multiply(v, mathContext);
+            if (payments[k] == null || payments[k].signum() == 0) continue;
+
+            BigDecimal presentValue = payments[k].multiply(discount, mathContext);
+            npv = npv.subtract(presentValue, mathContext);
+            weighted = weighted.add(presentValue.multiply(BigDecimal.valueOf(k + 1L)), mathContext);
+        }
+        return new BigDecimal[]{npv, weighted.multiply(v, mathContext)};
+    }
+}
@@ -0,0 +1,92 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EPaymentFrequency;
+
+/**
+ * Fórmulas del método francés compartidas por los motores de cronograma
+ */
+public final class FrenchMethod {
+
+    public static final int SCALE = 10;
+    public static final int DAYS_PER_YEAR = 360;
+    public static final int DAYS_PER_MONTH = 30;
+
+    private FrenchMethod() {
+    }
+
+    /**
+     * Obtiene días según frecuencia de pago
+     */
+    public static int daysInPeriod(EPaymentFrequency frequency) {
+        return switch (frequency) {
+            case MONTHLY -> DAYS_PER_MONTH;
+            case QUARTERLY -> 90;
+            case SEMI_ANNUALLY -> 180;
+            case ANNUALLY -> DAYS_PER_YEAR;
+        };
+    }
+
+    /**
+     * Calcula Tasa Efectiva Periódica (TEP) a partir de la TEA (memorizada en {@link RateFactorCache})
+     */
+    public static BigDecimal periodicRate(BigDecimal annualRate, EPaymentFrequency frequency) {
+        int days = daysInPeriod(frequency);
+        return RateFactorCache.get(RateFactorCache.Factor.PERIODIC_RATE, annualRate, days, () -> {
+            BigDecimal n2 = BigDecimal.valueOf(days);
+            BigDecimal n1 = BigDecimal.valueOf(DAYS_PER_YEAR);
+            BigDecimal base = BigDecimal.ONE.add(annualRate);
+            BigDecimal exponent = n2.divide(n1, SCALE, RoundingMode.HALF_UP);
+
+            return BigDecimal.valueOf(Math.pow(base.doubleValue(), exponent.doubleValue()))
+                    .subtract(BigDecimal.ONE)
+                    .setScale(SCALE, RoundingMode.HALF_UP);
+        });
+    }
+
+    /**
+     * Convierte una tasa nominal anual en efectiva anual según los días del período de
+     * capitalización (memorizada en {@link RateFactorCache})
+     */
+    public static BigDecimal effectiveAnnualRate(BigDecimal nominalRate, int capitalizationDays) {
+        return RateFactorCache.get(RateFactorCache.Factor.EFFECTIVE_RATE, nominalRate, capitalizationDays, () -> {
+            BigDecimal m = BigDecimal.valueOf(DAYS_PER_YEAR).divide(BigDecimal.valueOf(capitalizationDays), SCALE, RoundingMode.HALF_UP);
+            BigDecimal rateDivM = nominalRate.divide(m, SCALE, RoundingMode.HALF_UP);
+            BigDecimal base = BigDecimal.ONE.add(rateDivM);
+
+            return BigDecimal.valueOf(Math.pow(base.doubleValue(), m.doubleValue()))
+                    .subtract(BigDecimal.ONE)
+                    .setScale(SCALE, RoundingMode.HALF_UP);
+        });
+    }
+
+    /**
+     * Factor de anualidad: 1 - (1 + TEP)^-n (memorizado en {@link RateFactorCache})
+     */
+    public static BigDecimal annuityFactor(BigDecimal tep, int periods) {
+        return RateFactorCache.get(RateFactorCache.Factor.ANNUITY_FACTOR, tep, periods, () -> {
+            BigDecimal uno = BigDecimal.ONE;
+            return uno.subtract(
+                BigDecimal.valueOf(Math.pow(uno.add(tep).doubleValue(), -periods))
+            ).setScale(SCALE, RoundingMode.HALF_UP);
+        });
+    }
+
+    /**
+     * Calcula la cuota usando método francés
+     */
+    public static BigDecimal payment(BigDecimal capital, BigDecimal tep, int periods) {
+        if (periods <= 0) return BigDecimal.ZERO;
+
+        return payment(capital, tep, annuityFactor(tep, periods));
+    }
+
+    /**
+     * Calcula la cuota con un factor de anualidad ya calculado (compartido entre simulaciones)
+     */
+    public static BigDecimal payment(BigDecimal capital, BigDecimal tep, BigDecimal annuityFactor) {
+        return capital.multiply(tep).divide(annuityFactor, SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,174 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * TIR periódica de un crédito: raíz de VAN(p) = F0 − Σ pagos_k / (1 + p)^k, con F0 el flujo
+ * inicial recibido y pagos_k el pago total del período k (k = 1..n).
+ * Newton desde una semilla (la TEP del cronograma o una aproximación cerrada) y, si no converge
+ * o sale del dominio, Brent sobre un intervalo con cambio de signo. Para cifras reportadas, la
+ * raíz en double se certifica con uno o dos pasos de Newton en BigDecimal.
+ */
+public final class IrrSolver {
+
+    static final double RELATIVE_TOLERANCE = 1e-12;
+    static final int NEWTON_MAX_ITERATIONS = 20;
+    private static final int BRENT_MAX_ITERATIONS = 100;
+    static final double MAX_RATE = 10.0;
+    private static final int POLISH_MAX_STEPS = 2;
+
+    private IrrSolver() {
+    }
+
+    /**
+     * Resuelve la TIR periódica; {@code guess} NaN usa la semilla cerrada.
+     * Devuelve NaN si no encuentra una raíz (p. ej. pagos que no cubren el flujo inicial).
+     */
+    public static double solve(double initialFlow, double[] payments, double guess) {
+        return solve(new CashFlowEvaluator(initialFlow, payments), guess);
+    }
+
+    /**
+     * Igual que {@link #solve(double, double[], double)} sobre un flujo ya construido
+     */
+    public static double solve(CashFlowEvaluator cashFlow, double guess) {
+        if (cashFlow.periods() == 0) return Double.NaN;
+
+        double rate = Double.isFinite(guess) && guess > -1 ? guess : seed(cashFlow);
+        for (int i = 0; i < NEWTON_MAX_ITERATIONS; i++) {
+            double[] npvAndDerivative = cashFlow.npvAndDerivative(rate);
+            double derivative = npvAndDerivative[1];
+            if (derivative == 0 || !Double.isFinite(derivative)) break;
+
+            double next = rate - npvAndDerivative[0] / derivative;
+            if (!(next > -1) || next > MAX_RATE) break;
+
+            if (Math.abs(next - rate) <= RELATIVE_TOLERANCE * Math.max(Math.abs(next), 1e-6)) {
+                return next;
+            }
+            rate = next;
+        }
+        return brent(cashFlow);
+    }
+
+    /**
+     * Resuelve en double y certifica la raíz con hasta dos pasos de Newton en BigDecimal
+     * (DECIMAL128) sobre los pagos exactos; el resultado queda redondeado a {@code scale}.
+     * Devuelve null si el pre-cálculo en double no encuentra raíz.
+     */
+    public static BigDecimal solve(BigDecimal initialFlow, BigDecimal[] payments, double guess, int scale) {
+        double[] paymentValues = new double[payments.length];
+        for (int k = 0; k < payments.length; k++) {
+            paymentValues[k] = payments[k].doubleValue();
+        }
+        double estimate = solve(new CashFlowEvaluator(initialFlow.doubleValue(), paymentValues), guess);
+        if (Double.isNaN(estimate)) return null;
+
+        return polish(initialFlow, payments, new BigDecimal(estimate), scale);
+    }
+
+    /**
+     * Pasos de Newton en BigDecimal desde una aproximación; termina cuando el paso queda por
+     * debajo de la última cifra de {@code scale}
+     */
+    static BigDecimal polish(BigDecimal initialFlow, BigDecimal[] payments, BigDecimal estimate, int scale) {
+        BigDecimal threshold = BigDecimal.ONE.movePointLeft(scale + 2);
+        BigDecimal rate = estimate;
+        for (int i = 0; i < POLISH_MAX_STEPS; i++) {
+            BigDecimal[] npvAndDerivative = CashFlowEvaluator.npvAndDerivative(initialFlow, payments, rate, MathContext.DECIMAL128);
+            if (npvAndDerivative[1].signum() == 0) break;
+
+            BigDecimal step = npvAndDerivative[0].divide(npvAndDerivative[1], MathContext.DECIMAL128);
+            rate = rate.subtract(step, MathContext.DECIMAL128);
+            if (step.abs().compareTo(threshold) < 0) break;
+        }
+        return rate.setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Semilla cerrada: tasa que iguala el flujo inicial con la suma de pagos concentrada
+     * en el período medio, (Σ pagos / F0)^(2 / (n + 1)) − 1
+     */
+    static double seed(CashFlowEvaluator cashFlow) {
+        double total = cashFlow.totalPayments();
+        if (cashFlow.initialFlow() <= 0 || total <= 0) return 0.01;
+        return Math.pow(total / cashFlow.initialFlow(), 2.0 / (cashFlow.periods() + 1)) - 1;
+    }
+
+    /**
+     * Brent sobre [−0.5, b], ampliando b hasta encontrar cambio de signo
+     */
+    private static double brent(CashFlowEvaluator cashFlow) {
+        double a = -0.5;
+        double b = 0.01;
+        double fa = cashFlow.npv(a);
+        double fb = cashFlow.npv(b);
+        while (fa * fb > 0 && b < MAX_RATE) {
+            b = Math.min(b * 2, MAX_RATE);
+            fb = cashFlow.npv(b);
+        }
+        if (fa * fb > 0) return Double.NaN;
+
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+        for (int i = 0; i < BRENT_MAX_ITERATIONS; i++) {
+            if (fb * fc > 0) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+
+            double tolerance = 2 * Math.ulp(b) + 0.5 * RELATIVE_TOLERANCE * Math.max(Math.abs(b), 1e-6);
+            double middle = 0.5 * (c - b);
+            if (Math.abs(middle) <= tolerance || fb == 0) return b;
+
+            if (Math.abs(e) >= tolerance && Math.abs(fa) > Math.abs(fb)) {
+                // Interpolación (secante o cuadrática inversa)
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    p = 2 * middle * s;
+                    q = 1 - s;
+                } else {
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2 * middle * q * (q - r) - (b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) q = -q; else p = -p;
+
+                if (2 * p < Math.min(3 * middle * q - Math.abs(tolerance * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = middle;
+                    e = d;
+                }
+            } else {
+                // Bisección
+                d = middle;
+                e = d;
+            }
+
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tolerance ? d : Math.copySign(tolerance, middle);
+            fb = cashFlow.npv(b);
+        }
+        return b;
+    }
+}
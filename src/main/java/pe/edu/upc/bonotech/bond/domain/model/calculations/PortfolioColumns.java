@@ -0,0 +1,80 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+/**
+ * Bloque de créditos en formato struct-of-arrays: un índice (carril) por crédito en cada
+ * arreglo de parámetros y resultados. Los pagos totales se guardan período a período con los
+ * carriles contiguos ({@code totalPayment[k * lanes + i]}) y rellenos con cero tras el último
+ * período de cada crédito, para que los recorridos por período no tengan ramas por carril.
+ */
+public record PortfolioColumns(
+    int lanes,
+    int maxPeriods,
+    // Parámetros
+    double[] financedCapital,
+    double[] periodicRate,
+    int[] periods,
+    int[] gracePeriods,
+    boolean[] totalGrace,
+    boolean[] partialGrace,
+    double[] insuranceRate,
+    double[] fixedInsurance,
+    double[] commission,
+    double[] initialFlow,
+    double[] upfrontCosts,
+    double[] periodicDiscountRate,
+    int[] periodsPerYear,
+    // Resultados
+    double[] totalPayment,
+    double[] cuota,
+    double[] totalBasePayments,
+    double[] totalInterest,
+    double[] totalAmortization,
+    double[] totalInsurance,
+    double[] totalFixedInsurance,
+    double[] totalCommissions,
+    double[] tir,
+    double[] tcea,
+    double[] van
+) {
+    public static PortfolioColumns allocate(int lanes, int maxPeriods) {
+        return new PortfolioColumns(
+            lanes,
+            maxPeriods,
+            new double[lanes],
+            new double[lanes],
+            new int[lanes],
+            new int[lanes],
+            new boolean[lanes],
+            new boolean[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new int[lanes],
+            new double[lanes * maxPeriods],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes],
+            new double[lanes]
+        );
+    }
+
+    /**
+     * Pagos totales de un carril en un arreglo propio (para el respaldo escalar de la TIR)
+     */
+    public double[] paymentsOf(int lane) {
+        double[] payments = new double[periods[lane]];
+        for (int k = 0; k < payments.length; k++) {
+            payments[k] = totalPayment[k * lanes + lane];
+        }
+        return payments;
+    }
+}
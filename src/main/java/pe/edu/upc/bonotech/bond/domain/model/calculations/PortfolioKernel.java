@@ -0,0 +1,182 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+/**
+ * Cronograma francés, totales, VAN y TIR para un bloque de créditos en {@link PortfolioColumns}.
+ * Cada recorrido va período a período con el bucle interno sobre los carriles, de modo que el
+ * JIT trabaje sobre arreglos primitivos contiguos. Mismas reglas que {@link ScheduleKernel} y
+ * {@code ResultsFlow}: cuota francesa sobre el saldo al terminar la gracia, ajuste del saldo
+ * final, totales de cuota/interés/amortización solo en períodos de amortización.
+ */
+public final class PortfolioKernel {
+
+    private static final double BALANCE_TOLERANCE = 0.01;
+
+    private PortfolioKernel() {
+    }
+
+    public static void price(PortfolioColumns c) {
+        schedule(c);
+        tir(c);
+        van(c);
+    }
+
+    /**
+     * Cronograma de todos los carriles: llena los pagos totales por período, la cuota y los totales.
+     * La cuota se fija una vez por carril antes del recorrido; dentro del bucle por carril la fase
+     * (gracia, amortización o ya terminado) y el ajuste final son máscaras 0/1, sin ramas.
+     */
+    static void schedule(PortfolioColumns c) {
+        int lanes = c.lanes();
+        double[] saldo = c.financedCapital().clone();
+        double[] rate = c.periodicRate();
+        int[] periods = c.periods();
+        int[] gracePeriods = c.gracePeriods();
+        double[] insuranceRate = c.insuranceRate();
+        double[] fixedInsurance = c.fixedInsurance();
+        double[] commission = c.commission();
+        double[] cuota = c.cuota();
+        double[] totalPayment = c.totalPayment();
+        double[] totalBasePayments = c.totalBasePayments();
+        double[] totalInterest = c.totalInterest();
+        double[] totalAmortization = c.totalAmortization();
+        double[] totalInsurance = c.totalInsurance();
+        double[] totalFixedInsurance = c.totalFixedInsurance();
+        double[] totalCommissions = c.totalCommissions();
+
+        // Modalidad de gracia como máscara y cuota sobre el saldo al terminar la gracia
+        double[] partial = new double[lanes];
+        double[] capitalize = new double[lanes];
+        for (int i = 0; i < lanes; i++) {
+            partial[i] = c.partialGrace()[i] ? 1.0 : 0.0;
+            capitalize[i] = c.totalGrace()[i] ? 1.0 : 0.0;
+            double balance = c.totalGrace()[i] ? saldo[i] * Math.pow(1 + rate[i], gracePeriods[i]) : saldo[i];
+            cuota[i] = payment(balance, rate[i], periods[i] - gracePeriods[i]);
+        }
+
+        for (int k = 0; k < c.maxPeriods(); k++) {
+            int row = k * lanes;
+            for (int i = 0; i < lanes; i++) {
+                double active = k < periods[i] ? 1.0 : 0.0;
+                double grace = k < gracePeriods[i] ? active : 0.0;
+                double amortizing = active - grace;
+
+                double balance = saldo[i];
+                double interest = balance * rate[i];
+                double insurance = active * balance * insuranceRate[i];
+                double fixed = active * fixedInsurance[i];
+                double fee = active * commission[i];
+
+                // Ajuste del saldo final (misma regla que el motor de cronograma)
+                double amortization = cuota[i] - interest;
+                double closing = (k == periods[i] - 1) & (balance - amortization < BALANCE_TOLERANCE) ? 1.0 : 0.0;
+                double base = cuota[i] + closing * (interest + balance - cuota[i]);
+                amortization += closing * (balance - amortization);
+
+                totalPayment[row + i] = amortizing * base + grace * partial[i] * interest + insurance + fixed + fee;
+                totalBasePayments[i] += amortizing * base;
+                totalInterest[i] += amortizing * interest;
+                totalAmortization[i] += amortizing * amortization;
+                totalInsurance[i] += insurance;
+                totalFixedInsurance[i] += fixed;
+                totalCommissions[i] += fee;
+                saldo[i] = balance + grace * capitalize[i] * interest - amortizing * amortization;
+            }
+        }
+    }
+
+    /**
+     * Cuota francesa en double con la misma fórmula que {@link FrenchMethod#payment}
+     */
+    static double payment(double capital, double rate, int periods) {
+        if (periods <= 0) return 0.0;
+        if (rate == 0) return capital / periods;
+        return capital * rate / (1 - Math.pow(1 + rate, -periods));
+    }
+
+    /**
+     * TIR periódica por Newton en todos los carriles a la vez (semilla = TEP). Cada iteración es
+     * una sola pasada VAN + derivada sin ramas; los carriles que convergen siguen en la pasada
+     * pero ya no se actualizan. Los que no convergen usan el respaldo escalar de {@link IrrSolver}.
+     */
+    static void tir(PortfolioColumns c) {
+        int lanes = c.lanes();
+        double[] totalPayment = c.totalPayment();
+        double[] rate = c.periodicRate().clone();
+        double[] v = new double[lanes];
+        double[] discount = new double[lanes];
+        double[] npv = new double[lanes];
+        double[] weighted = new double[lanes];
+        boolean[] converged = new boolean[lanes];
+        boolean[] fallback = new boolean[lanes];
+
+        for (int iteration = 0; iteration < IrrSolver.NEWTON_MAX_ITERATIONS; iteration++) {
+            for (int i = 0; i < lanes; i++) {
+                v[i] = 1 / (1 + rate[i]);
+                discount[i] = 1.0;
+                npv[i] = c.initialFlow()[i];
+                weighted[i] = 0.0;
+            }
+
+            for (int k = 0; k < c.maxPeriods(); k++) {
+                int row = k * lanes;
+                double period = k + 1;
+                for (int i = 0; i < lanes; i++) {
+                    discount[i] *= v[i];
+                    double presentValue = totalPayment[row + i] * discount[i];
+                    npv[i] -= presentValue;
+                    weighted[i] += period * presentValue;
+                }
+            }
+
+            int pending = 0;
+            for (int i = 0; i < lanes; i++) {
+                if (converged[i] || fallback[i]) continue;
+
+                double derivative = weighted[i] * v[i];
+                double next = rate[i] - npv[i] / derivative;
+                if (derivative == 0 || !Double.isFinite(derivative) || !(next > -1) || next > IrrSolver.MAX_RATE) {
+                    fallback[i] = true;
+                } else if (Math.abs(next - rate[i]) <= IrrSolver.RELATIVE_TOLERANCE * Math.max(Math.abs(next), 1e-6)) {
+                    rate[i] = next;
+                    converged[i] = true;
+                } else {
+                    rate[i] = next;
+                    pending++;
+                }
+            }
+            if (pending == 0) break;
+        }
+
+        for (int i = 0; i < lanes; i++) {
+            double tir = converged[i]
+                ? rate[i]
+                : IrrSolver.solve(c.initialFlow()[i], c.paymentsOf(i), c.periodicRate()[i]);
+            c.tir()[i] = tir;
+            c.tcea()[i] = Double.isNaN(tir) ? Double.NaN : Math.pow(tir + 1, c.periodsPerYear()[i]) - 1;
+        }
+    }
+
+    /**
+     * VAN a la tasa de descuento periódica de cada carril (NaN sin tasa de descuento)
+     */
+    static void van(PortfolioColumns c) {
+        int lanes = c.lanes();
+        double[] totalPayment = c.totalPayment();
+        double[] v = new double[lanes];
+        double[] discount = new double[lanes];
+        double[] van = c.van();
+        for (int i = 0; i < lanes; i++) {
+            v[i] = 1 / (1 + c.periodicDiscountRate()[i]);
+            discount[i] = 1.0;
+            van[i] = c.initialFlow()[i];
+        }
+
+        for (int k = 0; k < c.maxPeriods(); k++) {
+            int row = k * lanes;
+            for (int i = 0; i < lanes; i++) {
+                discount[i] *= v[i];
+                van[i] -= totalPayment[row + i] * discount[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caché acotada y concurrente de factores de tasa (TEP, conversión nominal → efectiva y
+ * factores de anualidad). Las entidades publican pocas tasas, así que el conjunto de claves
+ * distintas es pequeño y casi todas las simulaciones reutilizan factores ya calculados.
+ * Compartida por todos los motores; sus estadísticas se exponen como métricas.
+ */
+public final class RateFactorCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    public enum Factor {
+        PERIODIC_RATE,   // parámetro: días del período de pago
+        EFFECTIVE_RATE,  // parámetro: días del período de capitalización
+        ANNUITY_FACTOR   // parámetro: número de períodos
+    }
+
+    private record Key(Factor factor, BigDecimal rate, int parameter) {
+    }
+
+    private static final Cache<Key, BigDecimal> CACHE = Caffeine.newBuilder()
+        .maximumSize(DEFAULT_MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    private RateFactorCache() {
+    }
+
+    /**
+     * Obtiene el factor o lo calcula y guarda. La tasa se normaliza para que 0.08 y 0.0800
+     * compartan entrada.
+     */
+    static BigDecimal get(Factor factor, BigDecimal rate, int parameter, Supplier<BigDecimal> compute) {
+        return CACHE.get(new Key(factor, rate.stripTrailingZeros(), parameter), key -> compute.get());
+    }
+
+    public static Cache<?, ?> cache() {
+        return CACHE;
+    }
+
+    public static void setMaximumSize(long maximumSize) {
+        CACHE.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+    }
+}
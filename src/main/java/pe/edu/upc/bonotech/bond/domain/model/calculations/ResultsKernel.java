@@ -0,0 +1,40 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+/**
+ * Indicadores de transparencia (VAN, TIR, TCEA) sobre double, con la misma convención que
+ * {@code ResultsFlow}: flujo inicial = capital financiado − comisión inicial, pagos en los
+ * períodos 1..n, TIR periódica y TCEA = (1 + TIR)^(períodos por año) − 1.
+ */
+public final class ResultsKernel {
+
+    private ResultsKernel() {
+    }
+
+    /**
+     * Convierte una tasa anual en periódica según los períodos por año
+     */
+    public static double periodicRate(double annualRate, int periodsPerYear) {
+        return Math.pow(annualRate + 1, 1.0 / periodsPerYear) - 1;
+    }
+
+    /**
+     * VAN del crédito para una tasa anual de descuento
+     */
+    public static double van(double initialFlow, double[] payments, double annualRate, int periodsPerYear) {
+        return new CashFlowEvaluator(initialFlow, payments).npv(periodicRate(annualRate, periodsPerYear));
+    }
+
+    /**
+     * TIR periódica (ver {@link IrrSolver}); {@code guess} suele ser la TEP del cronograma
+     */
+    public static double tir(double initialFlow, double[] payments, double guess) {
+        return IrrSolver.solve(initialFlow, payments, guess);
+    }
+
+    /**
+     * TCEA a partir de la TIR periódica
+     */
+    public static double tcea(double tir, int periodsPerYear) {
+        return Math.pow(tir + 1, periodsPerYear) - 1;
+    }
+}
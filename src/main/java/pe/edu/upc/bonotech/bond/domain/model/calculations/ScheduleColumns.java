@@ -0,0 +1,38 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+/**
+ * Cronograma en formato columnar sobre arreglos primitivos (un índice por período)
+ */
+public record ScheduleColumns(
+    String[] periodTypes,
+    double[] initialBalance,
+    double[] finalBalance,
+    double[] basePayment,
+    double[] interest,
+    double[] amortization,
+    double[] insuranceAmount,
+    double[] fixedInsuranceAmount,
+    double[] commissionAmount,
+    double[] totalPayment,
+    double periodicRate
+) {
+    public static ScheduleColumns allocate(int periods, double periodicRate) {
+        return new ScheduleColumns(
+            new String[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            new double[periods],
+            periodicRate
+        );
+    }
+
+    public int size() {
+        return periodTypes.length;
+    }
+}
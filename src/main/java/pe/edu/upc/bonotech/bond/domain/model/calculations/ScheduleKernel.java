@@ -0,0 +1,118 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
+
+/**
+ * Núcleo del cronograma francés sobre double.
+ * Reglas de redondeo: TEP y cuota se calculan una sola vez con {@link FrenchMethod}
+ * (redondeadas a SCALE); el resto se acumula en double y se redondea a SCALE al materializar.
+ */
+public final class ScheduleKernel {
+
+    public static final String GRACE_TOTAL = "GRACE_TOTAL";
+    public static final String GRACE_PARTIAL = "GRACE_PARTIAL";
+    public static final String AMORTIZATION = "AMORTIZATION";
+
+    private static final double BALANCE_TOLERANCE = 0.01;
+
+    private ScheduleKernel() {
+    }
+
+    public static ScheduleColumns compute(double financedCapital, BigDecimal tep,
+                                          int totalPeriods, int gracePeriods, EGracePeriodType graceType,
+                                          double insuranceRate, double fixedInsurance, double commission) {
+        return compute(financedCapital, tep, totalPeriods, gracePeriods, graceType,
+            insuranceRate, fixedInsurance, commission, null);
+    }
+
+    /**
+     * Igual que {@link #compute(double, BigDecimal, int, int, EGracePeriodType, double, double, double)}
+     * pero con el factor de anualidad de los períodos de amortización ya calculado (null = calcularlo)
+     */
+    public static ScheduleColumns compute(double financedCapital, BigDecimal tep,
+                                          int totalPeriods, int gracePeriods, EGracePeriodType graceType,
+                                          double insuranceRate, double fixedInsurance, double commission,
+                                          BigDecimal annuityFactor) {
+        int periods = Math.max(totalPeriods, 0);
+        int grace = Math.min(Math.max(gracePeriods, 0), periods);
+        double rate = tep.doubleValue();
+        ScheduleColumns s = ScheduleColumns.allocate(periods, rate);
+
+        boolean total = graceType == EGracePeriodType.TOTAL;
+        boolean partial = graceType == EGracePeriodType.PARTIAL;
+        double saldo = financedCapital;
+
+        // 1. Períodos de gracia
+        for (int k = 0; k < grace; k++) {
+            double interest = saldo * rate;
+            double insurance = saldo * insuranceRate;
+            double base = partial ? interest : 0.0;
+
+            s.periodTypes()[k] = total ? GRACE_TOTAL : GRACE_PARTIAL;
+            s.initialBalance()[k] = saldo;
+            s.finalBalance()[k] = total ? saldo + interest : saldo;
+            s.basePayment()[k] = base;
+            s.interest()[k] = interest;
+            s.amortization()[k] = 0.0;
+            s.insuranceAmount()[k] = insurance;
+            s.fixedInsuranceAmount()[k] = fixedInsurance;
+            s.commissionAmount()[k] = commission;
+            s.totalPayment()[k] = base + insurance + fixedInsurance + commission;
+
+            if (total) {
+                saldo = saldo + interest;
+            }
+        }
+
+        // 2. Períodos de amortización
+        double cuota = annuityFactor != null && periods > grace
+            ? FrenchMethod.payment(BigDecimal.valueOf(saldo), tep, annuityFactor).doubleValue()
+            : FrenchMethod.payment(BigDecimal.valueOf(saldo), tep, periods - grace).doubleValue();
+
+        for (int k = grace; k < periods; k++) {
+            double interest = saldo * rate;
+            double amortization = cuota - interest;
+            double insurance = saldo * insuranceRate;
+
+            s.periodTypes()[k] = AMORTIZATION;
+            s.initialBalance()[k] = saldo;
+            s.finalBalance()[k] = Math.max(saldo - amortization, 0.0);
+            s.basePayment()[k] = cuota;
+            s.interest()[k] = interest;
+            s.amortization()[k] = amortization;
+            s.insuranceAmount()[k] = insurance;
+            s.fixedInsuranceAmount()[k] = fixedInsurance;
+            s.commissionAmount()[k] = commission;
+            s.totalPayment()[k] = cuota + insurance + fixedInsurance + commission;
+
+            saldo = saldo - amortization;
+        }
+
+        adjustFinalBalance(s);
+        return s;
+    }
+
+    /**
+     * Ajusta el saldo final para evitar decimales residuales (misma regla que el motor BigDecimal)
+     */
+    private static void adjustFinalBalance(ScheduleColumns s) {
+        int last = s.size() - 1;
+        if (last < 0) return;
+
+        if (Math.abs(s.finalBalance()[last]) < BALANCE_TOLERANCE) {
+            s.finalBalance()[last] = 0.0;
+
+            if (AMORTIZATION.equals(s.periodTypes()[last])) {
+                double adjustedAmortization = s.initialBalance()[last];
+                s.amortization()[last] = adjustedAmortization;
+                s.basePayment()[last] = s.interest()[last] + adjustedAmortization;
+                s.totalPayment()[last] = s.basePayment()[last]
+                    + s.insuranceAmount()[last]
+                    + s.fixedInsuranceAmount()[last]
+                    + s.commissionAmount()[last];
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EGracePeriodType;
+
+/**
+ * Totales del cronograma francés en forma cerrada (O(1), sin recorrer los flujos).
+ * Con S = saldo al terminar la gracia, C = cuota, i = TEP, n = períodos de amortización y q = (1 + i)^n:
+ * <ul>
+ *   <li>saldo residual R = S·q − C·(q − 1)/i (lo que absorbe el ajuste del último período)</li>
+ *   <li>amortización total = S, intereses = n·C − S + R, cuotas base = n·C + R</li>
+ *   <li>seguro multirriesgo y comisiones = N·monto fijo (N = total de períodos, gracia incluida)</li>
+ * </ul>
+ * El seguro desgravamen depende del saldo de cada período y no forma parte de estos totales.
+ */
+public record ScheduleTotals(
+    BigDecimal totalBasePayments,
+    BigDecimal totalInterest,
+    BigDecimal totalAmortization,
+    BigDecimal totalFixedInsurance,
+    BigDecimal totalCommissions
+) {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+    private static final BigDecimal BALANCE_TOLERANCE = new BigDecimal("0.01");
+
+    /**
+     * Calcula los totales en forma cerrada. Devuelve vacío cuando la fórmula no aplica
+     * (TEP nula o sin períodos de amortización) y el llamador debe recorrer el cronograma.
+     */
+    public static Optional<ScheduleTotals> closedForm(BigDecimal financedCapital, BigDecimal tep,
+                                                      int totalPeriods, int gracePeriods, EGracePeriodType graceType,
+                                                      BigDecimal fixedInsurance, BigDecimal commission) {
+        int amortizationPeriods = totalPeriods - gracePeriods;
+        if (tep.signum() <= 0 || gracePeriods < 0 || amortizationPeriods <= 0) {
+            return Optional.empty();
+        }
+
+        BigDecimal growth = BigDecimal.ONE.add(tep);
+
+        // Saldo al terminar la gracia: en gracia total los intereses se capitalizan
+        BigDecimal saldo = graceType == EGracePeriodType.TOTAL
+            ? financedCapital.multiply(growth.pow(gracePeriods, MC), MC)
+            : financedCapital;
+
+        BigDecimal cuota = FrenchMethod.payment(saldo, tep, amortizationPeriods);
+        BigDecimal n = BigDecimal.valueOf(amortizationPeriods);
+        BigDecimal q = growth.pow(amortizationPeriods, MC);
+
+        // Saldo residual sin ajustar tras la última cuota
+        BigDecimal residual = saldo.multiply(q, MC)
+            .subtract(cuota.multiply(q.subtract(BigDecimal.ONE), MC).divide(tep, MC), MC);
+        BigDecimal payments = cuota.multiply(n, MC);
+
+        BigDecimal totalBasePayments;
+        BigDecimal totalAmortization;
+        if (residual.max(BigDecimal.ZERO).compareTo(BALANCE_TOLERANCE) < 0) {
+            // El último período amortiza exactamente su saldo inicial
+            totalBasePayments = payments.add(residual, MC);
+            totalAmortization = saldo;
+        } else {
+            totalBasePayments = payments;
+            totalAmortization = saldo.subtract(residual, MC);
+        }
+        BigDecimal totalInterest = payments.subtract(saldo, MC).add(residual, MC);
+
+        BigDecimal periods = BigDecimal.valueOf(totalPeriods);
+        return Optional.of(new ScheduleTotals(
+            scaled(totalBasePayments),
+            scaled(totalInterest),
+            scaled(totalAmortization),
+            scaled(fixedInsurance.multiply(periods)),
+            scaled(commission.multiply(periods))
+        ));
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value.setScale(FrenchMethod.SCALE, RoundingMode.HALF_UP);
+    }
+}
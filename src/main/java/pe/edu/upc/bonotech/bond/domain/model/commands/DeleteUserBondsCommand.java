@@ -0,0 +1,17 @@
+package pe.edu.upc.bonotech.bond.domain.model.commands;
+
+import java.time.Instant;
+
+/**
+ * Eliminación masiva de las simulaciones de un usuario. Los filtros son opcionales
+ * (null = sin filtrar): moneda y creadas antes de un instante.
+ */
+public record DeleteUserBondsCommand(
+    Long userId,
+    String currency,
+    Instant createdBefore
+) {
+    public DeleteUserBondsCommand {
+        if (userId == null) throw new IllegalArgumentException("El usuario no puede ser nulo");
+    }
+}
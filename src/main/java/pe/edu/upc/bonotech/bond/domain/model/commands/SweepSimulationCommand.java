@@ -0,0 +1,110 @@
+package pe.edu.upc.bonotech.bond.domain.model.commands;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Grilla de sensibilidad: un crédito base y los valores a recorrer por eje
+ * (tasa × plazo × meses de gracia × cuota inicial). Un eje vacío usa el valor del crédito base.
+ * Los ejes se validan aquí, antes de precalcular factores o reservar memoria para la grilla.
+ */
+public record SweepSimulationCommand(
+    CreateBondCommand base,
+    List<BigDecimal> annualRates,
+    List<Integer> totalMonths,
+    List<Integer> gracePeriodMonths,
+    List<BigDecimal> initialFeeAmounts
+) {
+    /**
+     * Máximo de valores por eje
+     */
+    public static final int MAX_AXIS_VALUES = 1000;
+
+    /**
+     * Plazo máximo de la grilla en meses (30 años)
+     */
+    public static final int MAX_TOTAL_MONTHS = 360;
+
+    public SweepSimulationCommand {
+        if (base == null) throw new IllegalArgumentException("El crédito base no puede ser nulo");
+        requireText(base.interestType(), "Tipo de tasa");
+        if (!"EFFECTIVE".equals(base.interestType())) requireText(base.capitalizationPeriod(), "Capitalización");
+        requireText(base.paymentFrequency(), "Frecuencia de pago");
+        requireText(base.gracePeriodType(), "Tipo de gracia");
+
+        if (annualRates == null || annualRates.isEmpty()) annualRates = List.of(base.annualRate());
+        if (totalMonths == null || totalMonths.isEmpty()) totalMonths = List.of(base.totalMonths());
+        if (gracePeriodMonths == null || gracePeriodMonths.isEmpty()) gracePeriodMonths = List.of(base.gracePeriodMonths());
+        if (initialFeeAmounts == null || initialFeeAmounts.isEmpty()) initialFeeAmounts = List.of(base.initialFeeAmount());
+
+        annualRates = List.copyOf(annualRates);
+        totalMonths = List.copyOf(totalMonths);
+        gracePeriodMonths = List.copyOf(gracePeriodMonths);
+        initialFeeAmounts = List.copyOf(initialFeeAmounts);
+
+        validateSize(annualRates, "tasas");
+        validateSize(totalMonths, "plazos");
+        validateSize(gracePeriodMonths, "meses de gracia");
+        validateSize(initialFeeAmounts, "cuotas iniciales");
+
+        annualRates.forEach(rate -> validateNonNegative(rate, "Tasa anual"));
+        initialFeeAmounts.forEach(fee -> validateNonNegative(fee, "Cuota inicial"));
+
+        int minTerm = Integer.MAX_VALUE;
+        for (Integer term : totalMonths) {
+            if (term == null || term <= 0 || term > MAX_TOTAL_MONTHS) {
+                throw new IllegalArgumentException("Cada plazo de la grilla debe estar entre 1 y " + MAX_TOTAL_MONTHS + " meses");
+            }
+            minTerm = Math.min(minTerm, term);
+        }
+        for (Integer grace : gracePeriodMonths) {
+            if (grace == null || grace < 0 || grace >= minTerm) {
+                throw new IllegalArgumentException("Cada período de gracia debe estar entre 0 y " + (minTerm - 1)
+                    + " meses (menor que el plazo más corto de la grilla)");
+            }
+        }
+    }
+
+    private static void requireText(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(fieldName + " del crédito base no puede estar vacío");
+        }
+    }
+
+    private static void validateSize(List<?> axis, String name) {
+        if (axis.size() > MAX_AXIS_VALUES) {
+            throw new IllegalArgumentException("El eje de " + name + " no puede tener más de " + MAX_AXIS_VALUES + " valores");
+        }
+    }
+
+    private static void validateNonNegative(BigDecimal value, String fieldName) {
+        if (value == null || value.signum() < 0) {
+            throw new IllegalArgumentException(fieldName + " de la grilla no puede ser nula ni negativa");
+        }
+    }
+
+    /**
+     * Número de celdas de la grilla
+     */
+    public long cellCount() {
+        return (long) annualRates.size() * totalMonths.size() * gracePeriodMonths.size() * initialFeeAmounts.size();
+    }
+
+    /**
+     * Comando de una celda: el crédito base con los valores de cada eje
+     */
+    public CreateBondCommand cell(BigDecimal annualRate, Integer months, Integer graceMonths, BigDecimal initialFeeAmount) {
+        BigDecimal initialFeePercentage = initialFeeAmount.divide(base.loanAmount(), 10, RoundingMode.HALF_UP);
+        return new CreateBondCommand(
+            base.userId(), base.name(), base.currency(),
+            base.loanAmount(), base.bbpAmount(), initialFeePercentage, initialFeeAmount,
+            base.exchangeRate(), base.interestType(), annualRate,
+            base.capitalizationPeriod(), base.paymentFrequency(),
+            months, base.gracePeriodType(), graceMonths,
+            base.insurancePercentage(), base.fixedInsurance(),
+            base.initialCommission(), base.periodicCommission(), base.finalCommission(),
+            base.disbursementDate(), base.discountRate()
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package pe.edu.upc.bonotech.bond.domain.model.entities;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EPaymentFrequency;
+
+/**
+ * Modelo de lectura de los listados: una fila por simulación con la cabecera y los indicadores
+ * principales. Se mantiene desde BondCommandService en la misma transacción que el Bond; los
+ * listados la recorren por índice sin joins ni filas de cronograma.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_loan_summaries_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_loan_summaries_currency_created", columnList = "currency, created_at, id"),
+    @Index(name = "idx_loan_summaries_created", columnList = "created_at, id"),
+    // Rango de montos: se recorre en el orden del cursor y el monto se filtra desde el índice
+    @Index(name = "idx_loan_summaries_created_amount", columnList = "created_at, id, loan_amount")
+})
+@Getter
+@NoArgsConstructor
+public class LoanSummary implements Persistable<Long> {
+
+    private static final int SCALE = 10;
+
+    // Mismo id que el Bond (no generado)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private ECurrency currency;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal loanAmount;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal bbpAmount;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal financedCapital;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal annualRate;
+
+    @Enumerated(EnumType.STRING)
+    private EPaymentFrequency paymentFrequency;
+
+    private Integer totalMonths;
+
+    private Integer gracePeriodMonths;
+
+    @Column(nullable = false)
+    private Instant createdAt;                        // Fecha de creación del Bond (orden de los listados)
+
+    // === INDICADORES DE ResultsFlow ===
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal firstInstallment;              // Primera cuota de amortización (pago total)
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal tcea;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal tir;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal van;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal totalPaid;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal averageMonthlyPayment;
+
+    @Column(precision = 20, scale = SCALE)
+    private BigDecimal costOfCredit;
+
+    // El id es asignado: sin esto save() haría un SELECT previo (merge) en cada alta
+    @Transient
+    private boolean isNew;
+
+    /**
+     * Crea la fila de una simulación recién persistida (el Bond ya tiene id y createdAt)
+     */
+    public static LoanSummary of(Bond bond) {
+        LoanSummary summary = new LoanSummary();
+        summary.id = bond.getId();
+        summary.isNew = true;
+        summary.refresh(bond);
+        return summary;
+    }
+
+    /**
+     * Copia la cabecera y los indicadores actuales del Bond
+     */
+    public void refresh(Bond bond) {
+        this.userId = bond.getUserId();
+        this.name = bond.getName();
+        this.currency = bond.getCurrency();
+        this.loanAmount = bond.getLoanAmount();
+        this.bbpAmount = bond.getBbpAmount();
+        this.financedCapital = bond.getFinancedCapital();
+        this.annualRate = bond.getAnnualRate();
+        this.paymentFrequency = bond.getPaymentFrequency();
+        this.totalMonths = bond.getTotalMonths();
+        this.gracePeriodMonths = bond.getGracePeriodMonths();
+        this.createdAt = bond.getCreatedAt();
+
+        this.firstInstallment = bond.getSchedule().stream()
+            .filter(Flow::isAmortizationPeriod)
+            .findFirst()
+            .map(Flow::getTotalPayment)
+            .orElse(null);
+
+        ResultsFlow results = bond.getResultsFlow();
+        this.tcea = results != null ? results.getTcea() : null;
+        this.tir = results != null ? results.getTir() : null;
+        this.van = results != null ? results.getVan() : null;
+        this.totalPaid = results != null ? results.getTotalPaid() : null;
+        this.averageMonthlyPayment = results != null ? results.getAverageMonthlyPayment() : null;
+        this.costOfCredit = results != null ? results.getCostOfCredit() : null;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
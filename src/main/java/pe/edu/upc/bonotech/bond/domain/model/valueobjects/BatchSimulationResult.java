@@ -0,0 +1,24 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+
+/**
+ * Resultado de un elemento de una simulación por lotes: el crédito persistido o el error
+ */
+public record BatchSimulationResult(
+    int index,
+    Bond bond,
+    String error
+) {
+    public static BatchSimulationResult success(int index, Bond bond) {
+        return new BatchSimulationResult(index, bond, null);
+    }
+
+    public static BatchSimulationResult failure(int index, String error) {
+        return new BatchSimulationResult(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return bond != null;
+    }
+}
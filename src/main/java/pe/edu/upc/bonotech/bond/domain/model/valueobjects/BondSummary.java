@@ -0,0 +1,29 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Cabecera de una simulación con los indicadores principales de sus resultados, para listados.
+ * Se proyecta desde la tabla de lectura loan_summaries: no carga el cronograma ni las entidades.
+ */
+public record BondSummary(
+    Long id,
+    String name,
+    ECurrency currency,
+    BigDecimal loanAmount,
+    BigDecimal financedCapital,
+    BigDecimal annualRate,
+    EPaymentFrequency paymentFrequency,
+    Integer totalMonths,
+    Integer gracePeriodMonths,
+    Instant createdAt,
+    BigDecimal firstInstallment,
+    BigDecimal tcea,
+    BigDecimal tir,
+    BigDecimal van,
+    BigDecimal totalPaid,
+    BigDecimal averageMonthlyPayment,
+    BigDecimal costOfCredit
+) {
+}
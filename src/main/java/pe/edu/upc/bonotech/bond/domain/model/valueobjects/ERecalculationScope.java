@@ -0,0 +1,15 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+/**
+ * Alcance del recálculo que exige un cambio de datos, de menor a mayor impacto
+ */
+public enum ERecalculationScope {
+    NONE,     // Datos descriptivos (nombre, moneda, fechas): no se recalcula nada
+    RESULTS,  // Comisiones inicial/final o tasa de descuento: solo totales, VAN y TIR
+    COSTS,    // Seguros o comisión periódica: se actualizan esas columnas y el pago total
+    SCHEDULE; // Capital, tasa, plazo, frecuencia o gracia: se regenera el cronograma
+
+    public ERecalculationScope widen(ERecalculationScope other) {
+        return other.ordinal() > this.ordinal() ? other : this;
+    }
+}
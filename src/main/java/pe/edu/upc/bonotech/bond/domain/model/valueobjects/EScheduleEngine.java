@@ -0,0 +1,6 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+public enum EScheduleEngine {
+    BIG_DECIMAL,    // Cálculo con BigDecimal (motor original)
+    PRIMITIVE       // Cálculo sobre arreglos double con redondeo explícito a SCALE
+}
@@ -0,0 +1,7 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+public enum EScheduleStorage {
+    ROWS,       // Una fila de flows por período
+    PACKED,     // Cronograma completo codificado en un blob columnar sobre Bond
+    REGENERATED // No se almacena: se regenera al leer a partir de los parámetros del crédito
+}
@@ -0,0 +1,156 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+
+/**
+ * Codificación binaria versionada del cronograma.
+ *
+ * Formato v1: magic "BS", versión, escala, cantidad de períodos (varint), TEP escalada,
+ * tipos de período (1 byte c/u) y 9 columnas de montos. Cada columna guarda enteros
+ * escalados a {@link #SCALE} decimales como deltas zigzag-varint respecto al período anterior,
+ * de modo que las columnas constantes (cuota, seguro fijo, comisión) ocupan 1 byte por período.
+ */
+public final class PackedSchedule {
+
+    public static final byte VERSION = 1;
+    public static final int SCALE = 10;
+
+    private static final byte[] MAGIC = {'B', 'S'};
+    private static final String[] PERIOD_TYPES = {"AMORTIZATION", "GRACE_PARTIAL", "GRACE_TOTAL"};
+
+    private static final List<Function<Flow, BigDecimal>> COLUMNS = List.of(
+        Flow::getInitialBalance,
+        Flow::getFinalBalance,
+        Flow::getBasePayment,
+        Flow::getInterest,
+        Flow::getAmortization,
+        Flow::getInsuranceAmount,
+        Flow::getFixedInsuranceAmount,
+        Flow::getCommissionAmount,
+        Flow::getTotalPayment
+    );
+
+    private PackedSchedule() {
+    }
+
+    public static byte[] encode(List<Flow> flows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + flows.size() * 24);
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+        out.write(SCALE);
+        writeVarLong(out, flows.size());
+        writeVarLong(out, zigZag(flows.isEmpty() ? 0 : toScaled(flows.get(0).getPeriodicRate())));
+
+        for (Flow flow : flows) {
+            out.write(periodTypeCode(flow.getPeriodType()));
+        }
+
+        for (Function<Flow, BigDecimal> column : COLUMNS) {
+            long previous = 0;
+            for (Flow flow : flows) {
+                long value = toScaled(column.apply(flow));
+                writeVarLong(out, zigZag(Math.subtractExact(value, previous)));
+                previous = value;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static List<Flow> decode(byte[] data, Bond bond) {
+        if (data == null) return new ArrayList<>();
+
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (in.get() != MAGIC[0] || in.get() != MAGIC[1]) {
+            throw new IllegalStateException("Cronograma empaquetado inválido");
+        }
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Versión de cronograma empaquetado no soportada: " + version);
+        }
+        int scale = in.get();
+        int size = (int) readVarLong(in);
+        BigDecimal periodicRate = fromScaled(unZigZag(readVarLong(in)), scale);
+
+        String[] periodTypes = new String[size];
+        for (int i = 0; i < size; i++) {
+            periodTypes[i] = PERIOD_TYPES[in.get()];
+        }
+
+        BigDecimal[][] columns = new BigDecimal[COLUMNS.size()][size];
+        for (BigDecimal[] column : columns) {
+            long value = 0;
+            for (int i = 0; i < size; i++) {
+                value += unZigZag(readVarLong(in));
+                column[i] = fromScaled(value, scale);
+            }
+        }
+
+        List<Flow> flows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            flows.add(new Flow(
+                bond, i + 1, periodTypes[i],
+                columns[0][i], columns[1][i],
+                columns[2][i], columns[3][i], columns[4][i],
+                columns[5][i], columns[6][i], columns[7][i],
+                columns[8][i],
+                periodicRate
+            ));
+        }
+        return flows;
+    }
+
+    private static byte periodTypeCode(String periodType) {
+        for (byte i = 0; i < PERIOD_TYPES.length; i++) {
+            if (PERIOD_TYPES[i].equals(periodType)) return i;
+        }
+        throw new IllegalArgumentException("Tipo de período desconocido: " + periodType);
+    }
+
+    private static long toScaled(BigDecimal value) {
+        if (value == null) return 0;
+        try {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Monto fuera de rango para el cronograma empaquetado: " + value, e);
+        }
+    }
+
+    private static BigDecimal fromScaled(long value, int scale) {
+        return BigDecimal.valueOf(value, scale);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalStateException("Cronograma empaquetado inválido: varint demasiado largo");
+    }
+}
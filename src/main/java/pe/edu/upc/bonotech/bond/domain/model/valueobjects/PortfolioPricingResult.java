@@ -0,0 +1,45 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de valorizar una cartera de créditos: una posición por comando, en el orden de
+ * entrada. Un crédito que no se pudo calcular tiene NaN en sus métricas y el motivo en
+ * {@code errors}; un VAN sin tasa de descuento también es NaN.
+ */
+public record PortfolioPricingResult(
+    double[] cuota,
+    double[] tir,
+    double[] tcea,
+    double[] van,
+    double[] totalBasePayments,
+    double[] totalInterest,
+    double[] totalAmortization,
+    double[] totalInsurance,
+    double[] totalFixedInsurance,
+    double[] totalCommissions,
+    double[] totalCosts,
+    double[] totalPaid,
+    double[] costOfCredit,
+    String[] errors
+) {
+    public static PortfolioPricingResult allocate(int size) {
+        double[][] metrics = new double[13][size];
+        for (double[] metric : metrics) {
+            Arrays.fill(metric, Double.NaN);
+        }
+        return new PortfolioPricingResult(
+            metrics[0], metrics[1], metrics[2], metrics[3], metrics[4], metrics[5], metrics[6],
+            metrics[7], metrics[8], metrics[9], metrics[10], metrics[11], metrics[12],
+            new String[size]
+        );
+    }
+
+    public int size() {
+        return cuota.length;
+    }
+
+    public boolean isSuccess(int index) {
+        return errors[index] == null;
+    }
+}
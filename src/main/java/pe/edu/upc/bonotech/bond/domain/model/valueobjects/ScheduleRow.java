@@ -0,0 +1,40 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import java.math.BigDecimal;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+
+/**
+ * Fila de la tabla de amortización leída por proyección (sin entidad gestionada)
+ */
+public record ScheduleRow(
+    Integer periodNumber,
+    String periodType,
+    BigDecimal initialBalance,
+    BigDecimal finalBalance,
+    BigDecimal basePayment,
+    BigDecimal interest,
+    BigDecimal amortization,
+    BigDecimal insuranceAmount,
+    BigDecimal fixedInsuranceAmount,
+    BigDecimal commissionAmount,
+    BigDecimal totalPayment,
+    BigDecimal periodicRate
+) {
+    public static ScheduleRow fromFlow(Flow flow) {
+        return new ScheduleRow(
+            flow.getPeriodNumber(),
+            flow.getPeriodType(),
+            flow.getInitialBalance(),
+            flow.getFinalBalance(),
+            flow.getBasePayment(),
+            flow.getInterest(),
+            flow.getAmortization(),
+            flow.getInsuranceAmount(),
+            flow.getFixedInsuranceAmount(),
+            flow.getCommissionAmount(),
+            flow.getTotalPayment(),
+            flow.getPeriodicRate()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Resultado de una grilla de sensibilidad. Las métricas se guardan por celda en orden
+ * tasa → plazo → gracia → cuota inicial (el último eje varía más rápido); NaN marca una
+ * celda no calculable (o un VAN sin tasa de descuento).
+ */
+public record SweepResult(
+    List<BigDecimal> annualRates,
+    List<Integer> totalMonths,
+    List<Integer> gracePeriodMonths,
+    List<BigDecimal> initialFeeAmounts,
+    double[] cuota,
+    double[] tir,
+    double[] tcea,
+    double[] van
+) {
+    public int cells() {
+        return cuota.length;
+    }
+
+    public int index(int rate, int term, int grace, int fee) {
+        return ((rate * totalMonths.size() + term) * gracePeriodMonths.size() + grace) * initialFeeAmounts.size() + fee;
+    }
+}
@@ -0,0 +1,20 @@
+package pe.edu.upc.bonotech.bond.domain.services;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BatchSimulationResult;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+
+public interface IBondBatchSimulationService {
+
+    /**
+     * Calcula y persiste un lote de simulaciones.
+     * Los resultados se entregan al consumidor en el orden de entrada; un error en un elemento
+     * no interrumpe el resto del lote.
+     */
+    void handle(List<Supplier<CreateBondCommand>> commands, EScheduleEngine engine,
+                Consumer<BatchSimulationResult> sink);
+}
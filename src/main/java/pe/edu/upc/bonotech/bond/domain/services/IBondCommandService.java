@@ -1,9 +1,12 @@
 package pe.edu.upc.bonotech.bond.domain.services;
 
+import java.util.List;
 import java.util.Optional;
 
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
 import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.commands.DeleteUserBondsCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
 import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
 
 public interface IBondCommandService {
@@ -14,12 +17,30 @@ public interface IBondCommandService {
     Optional<Bond> handle(CreateBondCommand command);
 
     /**
-     * Actualiza y recalcula completamente una simulación existente
+     * Crea una nueva simulación usando el motor de cronograma indicado (null = motor por defecto)
      */
-    Optional<Bond> updateAndRecalculateLoan(Long loanId, CreateBondCommand command);
+    Optional<Bond> handle(CreateBondCommand command, EScheduleEngine engine);
 
     /**
-     * Actualización parcial y recálculo de una simulación existente
+     * Calcula cronograma y resultados en memoria, sin persistir ni abrir transacción
+     * (usado por la vista previa y por la simulación por lotes)
+     */
+    Bond simulate(CreateBondCommand command, EScheduleEngine engine);
+
+    /**
+     * Persiste un lote de simulaciones ya calculadas en una sola transacción
+     */
+    List<Bond> persistSimulations(List<Bond> bonds);
+
+    /**
+     * Actualiza y recalcula completamente una simulación existente, si sigue en la versión esperada
+     * (IllegalArgumentException si falta; ObjectOptimisticLockingFailureException si ya cambió)
+     */
+    Optional<Bond> updateAndRecalculateLoan(Long loanId, CreateBondCommand command, Long expectedVersion);
+
+    /**
+     * Actualización parcial y recálculo de una simulación existente; la versión del recurso es obligatoria
+     * y debe coincidir con la vigente (mismas excepciones que la actualización completa)
      */
     Optional<Bond> partialUpdateAndRecalculateLoan(Long loanId, UpdateBondResource resource);
     
@@ -28,4 +49,10 @@ public interface IBondCommandService {
      */
     boolean deleteLoan(Long loanId);
     boolean deleteBond(Long id);
+
+    /**
+     * Elimina en bloque las simulaciones de un usuario (todas o las que cumplen los filtros)
+     * en una transacción; devuelve cuántas se eliminaron
+     */
+    int handle(DeleteUserBondsCommand command);
 }
\ No newline at end of file
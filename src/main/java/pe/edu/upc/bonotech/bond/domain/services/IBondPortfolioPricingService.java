@@ -0,0 +1,17 @@
+package pe.edu.upc.bonotech.bond.domain.services;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PortfolioPricingResult;
+
+public interface IBondPortfolioPricingService {
+
+    /**
+     * Calcula cuota, TIR, TCEA, VAN y totales de muchos créditos a la vez, sin persistir.
+     * Los comandos se construyen al valorizar, así que un comando inválido no interrumpe el
+     * resto de la cartera.
+     */
+    PortfolioPricingResult handle(List<Supplier<CreateBondCommand>> commands);
+}
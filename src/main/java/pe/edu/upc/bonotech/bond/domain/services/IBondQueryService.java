@@ -1,16 +1,24 @@
 package pe.edu.upc.bonotech.bond.domain.services;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetCursor;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetPage;
 
 public interface IBondQueryService {
     
     /**
-     * Obtiene todas las simulaciones de un usuario
+     * Página de las simulaciones de un usuario sin cronograma (el detalle se pide por ID), de la más
+     * reciente a la más antigua a partir del cursor
      */
-    List<Bond> getLoansByUserId(Long userId);
+    KeysetPage<BondSummary> getLoanSummariesByUserId(Long userId, KeysetCursor cursor, int limit);
     
     /**
      * Obtiene una simulación específica por ID
@@ -18,19 +26,45 @@ public interface IBondQueryService {
     Optional<Bond> getLoanById(Long loanId);
     
     /**
-     * Obtiene simulaciones por tipo de moneda
+     * Página de simulaciones por tipo de moneda a partir del cursor
      */
-    List<Bond> getLoansByCurrency(String currency);
+    KeysetPage<BondSummary> getLoansByCurrency(String currency, KeysetCursor cursor, int limit);
     
     /**
-     * Obtiene simulaciones que tienen Bono del Buen Pagador
+     * Página de simulaciones que tienen Bono del Buen Pagador a partir del cursor
      */
-    List<Bond> getLoansWithBBP();
+    KeysetPage<BondSummary> getLoansWithBBP(KeysetCursor cursor, int limit);
     
     /**
-     * Obtiene el historial de simulaciones recientes
+     * Página de simulaciones con monto del crédito entre minAmount y maxAmount (inclusive) a partir del cursor
      */
-    List<Bond> getRecentLoans(int limit);
+    KeysetPage<BondSummary> getLoansByAmountRange(BigDecimal minAmount, BigDecimal maxAmount,
+                                                  KeysetCursor cursor, int limit);
+
+    /**
+     * Página del historial de simulaciones recientes a partir del cursor
+     */
+    KeysetPage<BondSummary> getRecentLoans(KeysetCursor cursor, int limit);
 
     Optional<Bond> getBondById(Long id);
-}
\ No newline at end of file
+
+    /**
+     * Obtiene la versión vigente de una simulación (vacío si no existe), leída siempre del primario
+     */
+    Optional<Long> getCurrentVersion(Long loanId);
+
+    /**
+     * Obtiene el modo de almacenamiento del cronograma (vacío si la simulación no existe)
+     */
+    Optional<EScheduleStorage> getScheduleStorage(Long loanId);
+
+    /**
+     * Recorre los períodos [from, to] del cronograma en orden, sin materializarlo completo
+     */
+    void streamAmortizationTable(Long loanId, int from, int to, Consumer<ScheduleRow> consumer);
+
+    /**
+     * VAN de la simulación a cada tasa de descuento anual (mismo orden), sin recalcular ni persistir
+     */
+    Optional<List<BigDecimal>> getNpvProfile(Long loanId, List<BigDecimal> discountRates);
+}
@@ -0,0 +1,12 @@
+package pe.edu.upc.bonotech.bond.domain.services;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.SweepSimulationCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.SweepResult;
+
+public interface IBondSweepSimulationService {
+
+    /**
+     * Evalúa en memoria todas las combinaciones de la grilla (sin persistir ni crear flows)
+     */
+    SweepResult handle(SweepSimulationCommand command);
+}
@@ -0,0 +1,44 @@
+package pe.edu.upc.bonotech.bond.infrastructure.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+
+/**
+ * Al iniciar, crea las filas de loan_summaries que falten para simulaciones anteriores al
+ * modelo de lectura (una transacción por bloque); sin pendientes es una sola consulta
+ */
+@Component
+@ConditionalOnProperty(name = "app.loan-summaries.backfill-on-startup", havingValue = "true")
+public class LoanSummaryBackfillRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoanSummaryBackfillRunner.class);
+
+    @Autowired
+    private LoanSummaryProjector loanSummaryProjector;
+
+    @Value("${app.loan-summaries.backfill-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int created = 0;
+        var pending = loanSummaryProjector.findMissingIds(0L, batchSize);
+
+        while (!pending.isEmpty()) {
+            created += loanSummaryProjector.backfill(pending);
+            pending = loanSummaryProjector.findMissingIds(pending.get(pending.size() - 1), batchSize);
+        }
+
+        if (created > 0) {
+            LOGGER.info("Filas de loan_summaries creadas: {}", created);
+        }
+    }
+}
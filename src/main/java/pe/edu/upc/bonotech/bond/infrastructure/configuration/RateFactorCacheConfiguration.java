@@ -0,0 +1,23 @@
+package pe.edu.upc.bonotech.bond.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import pe.edu.upc.bonotech.bond.domain.model.calculations.RateFactorCache;
+
+@Configuration
+public class RateFactorCacheConfiguration {
+
+    /**
+     * Ajusta el tamaño de la caché de factores de tasa y publica sus aciertos/fallos
+     * (cache.gets{cache=rateFactors,result=hit|miss}, cache.size, cache.evictions)
+     */
+    @Bean
+    public MeterBinder rateFactorCacheMetrics(@Value("${app.rates.cache.max-size:10000}") long maximumSize) {
+        RateFactorCache.setMaximumSize(maximumSize);
+        return registry -> CaffeineCacheMetrics.monitor(registry, RateFactorCache.cache(), "rateFactors");
+    }
+}
@@ -0,0 +1,55 @@
+package pe.edu.upc.bonotech.bond.infrastructure.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import pe.edu.upc.bonotech.bond.application.commandservices.ScheduleStorageMigrationService;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+
+/**
+ * Al iniciar, migra los cronogramas almacenados como filas al formato configurado en
+ * app.schedule.storage (una transacción por simulación)
+ */
+@Component
+@ConditionalOnProperty(name = "app.schedule.storage.migrate-on-startup", havingValue = "true")
+public class ScheduleStorageMigrationRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleStorageMigrationRunner.class);
+
+    @Autowired
+    private ScheduleStorageMigrationService migrationService;
+
+    @Value("${app.schedule.storage.migration-batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.schedule.storage:ROWS}")
+    private EScheduleStorage targetStorage;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (targetStorage == EScheduleStorage.ROWS) return;
+
+        int migrated = 0;
+        long lastId = 0L;
+        var pending = migrationService.findPendingIds(lastId, batchSize);
+
+        while (!pending.isEmpty()) {
+            for (Long bondId : pending) {
+                boolean done = targetStorage == EScheduleStorage.PACKED
+                    ? migrationService.migrateToPacked(bondId)
+                    : migrationService.migrateToRegenerated(bondId);
+                if (done) migrated++;
+                lastId = bondId;
+            }
+            pending = migrationService.findPendingIds(lastId, batchSize);
+        }
+
+        LOGGER.info("Cronogramas migrados a formato {}: {}", targetStorage, migrated);
+    }
+}
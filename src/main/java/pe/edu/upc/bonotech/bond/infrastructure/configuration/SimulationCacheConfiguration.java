@@ -0,0 +1,52 @@
+package pe.edu.upc.bonotech.bond.infrastructure.configuration;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+
+@Configuration
+public class SimulationCacheConfiguration {
+
+    /**
+     * Regiones de la caché de segundo nivel de las simulaciones (mismos nombres que en application.conf)
+     */
+    public static final List<String> REGIONS = List.of(
+        Bond.CACHE_REGION,
+        Bond.FLOWS_CACHE_REGION,
+        Flow.CACHE_REGION,
+        ResultsFlow.CACHE_REGION
+    );
+
+    /**
+     * Publica la tasa de aciertos de cada región (hibernate.second.level.cache.hit.ratio{region=...});
+     * los contadores de aciertos/fallos los expone hibernate-micrometer (hibernate.second.level.cache.requests)
+     */
+    @Bean
+    public MeterBinder simulationCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> REGIONS.forEach(region ->
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                .tag("region", region)
+                .description("Aciertos / consultas de la región de caché de segundo nivel")
+                .register(registry));
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        if (regionStatistics == null) return Double.NaN;
+
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / requests;
+    }
+}
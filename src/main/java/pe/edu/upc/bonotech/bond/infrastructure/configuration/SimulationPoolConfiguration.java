@@ -0,0 +1,20 @@
+package pe.edu.upc.bonotech.bond.infrastructure.configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SimulationPoolConfiguration {
+
+    /**
+     * Pool dedicado a cálculos de simulación (0 = un hilo por núcleo disponible)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool simulationPool(@Value("${app.simulation.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads);
+    }
+}
@@ -1,46 +1,53 @@
 package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
 import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
 
 @Repository
 public interface BondRepository extends JpaRepository<Bond, Long> {
-    
-    /**
-     * Obtiene todas las simulaciones de un usuario
-     */
-    List<Bond> findByUserId(Long userId);
-    
+
     /**
-     * Obtiene simulaciones por tipo de moneda
+     * Simulaciones de un usuario con filtros opcionales (null = sin filtrar); alias b
      */
-    List<Bond> findByCurrency(ECurrency currency);
+    String USER_FILTER = "b.userId = :userId "
+         + "AND (:currency IS NULL OR b.currency = :currency) "
+         + "AND (:createdBefore IS NULL OR b.createdAt < :createdBefore)";
     
     /**
-     * Obtiene simulaciones que tienen Bono del Buen Pagador (BBP > 0)
+     * Obtiene una simulación con su cronograma en la misma consulta (detalle)
      */
-    @Query("SELECT b FROM Bond b WHERE b.bbpAmount > 0")
-    List<Bond> findLoansWithBBP();
-    
+    @EntityGraph(attributePaths = "flows")
+    Optional<Bond> findWithFlowsById(Long id);
+
     /**
-     * Obtiene simulaciones por rango de monto
+     * Obtiene una simulación para recalcularla sin bloquear filas: al confirmar se incrementa su versión
+     * con UPDATE ... WHERE version = ?, aunque solo cambien el cronograma o los resultados
      */
-    @Query("SELECT b FROM Bond b WHERE b.loanAmount BETWEEN :minAmount AND :maxAmount")
-    List<Bond> findByLoanAmountRange(@Param("minAmount") Double minAmount, @Param("maxAmount") Double maxAmount);
-    
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<Bond> findForRecalculationById(Long id);
+
     /**
-     * Obtiene las últimas N simulaciones ordenadas por fecha de creación
+     * Obtiene la versión actual de una simulación sin cargarla
      */
-    List<Bond> findTop10ByOrderByCreatedAtDesc();
-    
+    @Query("SELECT b.version FROM Bond b WHERE b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     /**
      * Obtiene simulaciones por tipo de período de gracia
      */
@@ -55,4 +62,38 @@ public interface BondRepository extends JpaRepository<Bond, Long> {
      * Verifica si existe una simulación con el mismo nombre para el usuario
      */
     Boolean existsByUserIdAndName(Long userId, String name);
-}
\ No newline at end of file
+
+    /**
+     * Obtiene ids de simulaciones cuyo cronograma sigue almacenado como filas, a partir de un id (migraciones)
+     */
+    @Query("SELECT b.id FROM Bond b WHERE (b.scheduleStorage IS NULL OR b.scheduleStorage = :storage) AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByScheduleStorage(@Param("storage") EScheduleStorage storage, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Obtiene el modo de almacenamiento del cronograma sin cargar la simulación (null equivale a ROWS)
+     */
+    @Query("SELECT COALESCE(b.scheduleStorage, pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage.ROWS) FROM Bond b WHERE b.id = :id")
+    Optional<EScheduleStorage> findScheduleStorageById(@Param("id") Long id);
+
+    /**
+     * Obtiene ids de simulaciones sin fila en loan_summaries, a partir de un id (backfill)
+     */
+    @Query("SELECT b.id FROM Bond b WHERE b.id > :afterId "
+         + "AND NOT EXISTS (SELECT 1 FROM LoanSummary s WHERE s.id = b.id) ORDER BY b.id")
+    List<Long> findIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Elimina una simulación en una sola sentencia; su cronograma y resultados deben borrarse antes
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Bond b WHERE b.id = :id")
+    int deleteSimulationById(@Param("id") Long id);
+
+    /**
+     * Elimina las simulaciones de un usuario que cumplen los filtros; cronogramas y resultados deben borrarse antes
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Bond b WHERE " + USER_FILTER)
+    int deleteByUser(@Param("userId") Long userId, @Param("currency") ECurrency currency,
+                     @Param("createdBefore") Instant createdBefore);
+}
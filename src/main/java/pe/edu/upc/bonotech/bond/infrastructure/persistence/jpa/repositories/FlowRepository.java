@@ -0,0 +1,50 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
+
+@Repository
+public interface FlowRepository extends JpaRepository<Flow, Long> {
+
+    /**
+     * Recorre un rango de períodos del cronograma con un cursor del servidor (índice bond_id, period_number).
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow(" +
+           "f.periodNumber, f.periodType, f.initialBalance, f.finalBalance, f.basePayment, f.interest, " +
+           "f.amortization, f.insuranceAmount, f.fixedInsuranceAmount, f.commissionAmount, f.totalPayment, f.periodicRate) " +
+           "FROM Flow f WHERE f.bond.id = :bondId AND f.periodNumber BETWEEN :from AND :to ORDER BY f.periodNumber")
+    Stream<ScheduleRow> streamSchedule(@Param("bondId") Long bondId, @Param("from") int from, @Param("to") int to);
+
+    /**
+     * Elimina el cronograma de una simulación en una sola sentencia (índice bond_id, period_number)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Flow f WHERE f.bond.id = :bondId")
+    int deleteByBondId(@Param("bondId") Long bondId);
+
+    /**
+     * Elimina los cronogramas de las simulaciones de un usuario que cumplen los filtros
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Flow f WHERE f.bond.id IN (SELECT b.id FROM Bond b WHERE " + BondRepository.USER_FILTER + ")")
+    int deleteByUserBonds(@Param("userId") Long userId, @Param("currency") ECurrency currency,
+                          @Param("createdBefore") Instant createdBefore);
+}
@@ -0,0 +1,89 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pe.edu.upc.bonotech.bond.domain.model.entities.LoanSummary;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+
+@Repository
+public interface LoanSummaryRepository extends JpaRepository<LoanSummary, Long> {
+
+    /**
+     * Proyección de los listados desde la tabla de lectura, sin joins
+     */
+    String SUMMARY_SELECT = "SELECT new pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary("
+         + "s.id, s.name, s.currency, s.loanAmount, s.financedCapital, s.annualRate, s.paymentFrequency, "
+         + "s.totalMonths, s.gracePeriodMonths, s.createdAt, s.firstInstallment, "
+         + "s.tcea, s.tir, s.van, s.totalPaid, s.averageMonthlyPayment, s.costOfCredit) "
+         + "FROM LoanSummary s ";
+
+    /**
+     * Keyset sobre (createdAt, id): filas estrictamente anteriores al cursor, en el orden del índice.
+     * El primer término acota el rango del índice; el OR desempata por id dentro del mismo instante.
+     */
+    String BEFORE_CURSOR = "s.createdAt <= :createdAt AND (s.createdAt < :createdAt OR s.id < :id) "
+         + "ORDER BY s.createdAt DESC, s.id DESC";
+
+    /**
+     * Página de las simulaciones de un usuario anteriores al cursor (índice user_id, created_at, id)
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.userId = :userId AND " + BEFORE_CURSOR)
+    List<BondSummary> findByUserId(@Param("userId") Long userId, @Param("createdAt") Instant createdAt,
+                                   @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Página de simulaciones por tipo de moneda anteriores al cursor (índice currency, created_at, id)
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.currency = :currency AND " + BEFORE_CURSOR)
+    List<BondSummary> findByCurrency(@Param("currency") ECurrency currency, @Param("createdAt") Instant createdAt,
+                                     @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Página de simulaciones con Bono del Buen Pagador (BBP > 0) anteriores al cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.bbpAmount > 0 AND " + BEFORE_CURSOR)
+    List<BondSummary> findWithBBP(@Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Página de simulaciones con monto del crédito en [minAmount, maxAmount] anteriores al cursor
+     * (índice created_at, id, loan_amount)
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.loanAmount BETWEEN :minAmount AND :maxAmount AND " + BEFORE_CURSOR)
+    List<BondSummary> findByLoanAmountRange(@Param("minAmount") BigDecimal minAmount,
+                                            @Param("maxAmount") BigDecimal maxAmount,
+                                            @Param("createdAt") Instant createdAt, @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * Página de las simulaciones más recientes anteriores al cursor (índice created_at, id)
+     */
+    @Query(SUMMARY_SELECT + "WHERE " + BEFORE_CURSOR)
+    List<BondSummary> findRecent(@Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Elimina la fila de una simulación en una sola sentencia (sin cargarla)
+     */
+    @Modifying
+    @Query("DELETE FROM LoanSummary s WHERE s.id = :id")
+    int deleteBySimulationId(@Param("id") Long id);
+
+    /**
+     * Elimina las filas de un usuario con los mismos filtros que BondRepository.USER_FILTER
+     */
+    @Modifying
+    @Query("DELETE FROM LoanSummary s WHERE s.userId = :userId "
+         + "AND (:currency IS NULL OR s.currency = :currency) "
+         + "AND (:createdBefore IS NULL OR s.createdAt < :createdBefore)")
+    int deleteByUser(@Param("userId") Long userId, @Param("currency") ECurrency currency,
+                     @Param("createdBefore") Instant createdBefore);
+}
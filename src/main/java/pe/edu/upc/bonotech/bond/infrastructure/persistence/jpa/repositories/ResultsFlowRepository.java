@@ -0,0 +1,31 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ECurrency;
+
+@Repository
+public interface ResultsFlowRepository extends JpaRepository<ResultsFlow, Long> {
+
+    /**
+     * Elimina los resultados de una simulación en una sola sentencia
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ResultsFlow r WHERE r.bond.id = :bondId")
+    int deleteByBondId(@Param("bondId") Long bondId);
+
+    /**
+     * Elimina los resultados de las simulaciones de un usuario que cumplen los filtros
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ResultsFlow r WHERE r.bond.id IN (SELECT b.id FROM Bond b WHERE " + BondRepository.USER_FILTER + ")")
+    int deleteByUserBonds(@Param("userId") Long userId, @Param("currency") ECurrency currency,
+                          @Param("createdBefore") Instant createdBefore);
+}
@@ -1,25 +1,54 @@
 package pe.edu.upc.bonotech.bond.interfaces.REST;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.commands.DeleteUserBondsCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.services.IBondBatchSimulationService;
 import pe.edu.upc.bonotech.bond.domain.services.IBondCommandService;
+import pe.edu.upc.bonotech.bond.domain.services.IBondPortfolioPricingService;
 import pe.edu.upc.bonotech.bond.domain.services.IBondQueryService;
+import pe.edu.upc.bonotech.bond.domain.services.IBondSweepSimulationService;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.BatchSimulationResultResource;
 import pe.edu.upc.bonotech.bond.interfaces.REST.resources.BondResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.BondSummaryPageResource;
 import pe.edu.upc.bonotech.bond.interfaces.REST.resources.CreateBondResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.FlowResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.NpvProfileResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.PortfolioPricingResultResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.SweepResultResource;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.SweepSimulationResource;
 import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
 import pe.edu.upc.bonotech.iam.domain.services.UserQueryService;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetCursor;
 
 @RestController
 @RequestMapping(value = "/v1/loans", produces = MediaType.APPLICATION_JSON_VALUE) // Cambiado a /loans
@@ -35,12 +64,33 @@ public class BondController {
     @Autowired
     private UserQueryService userQueryService;
 
+    @Autowired
+    private IBondBatchSimulationService batchSimulationService;
+
+    @Autowired
+    private IBondSweepSimulationService sweepSimulationService;
+
+    @Autowired
+    private IBondPortfolioPricingService portfolioPricingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final int BATCH_FLUSH_INTERVAL = 100;
+
+    private static final int MAX_NPV_PROFILE_RATES = 1000;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     @PostMapping("/simulate")
     @Operation(summary = "Simulate MIVivienda loan", description = "Create a new loan simulation with Bono del Buen Pagador")
-    public ResponseEntity<?> simulateLoan(@RequestBody CreateBondResource resource) {
+    public ResponseEntity<?> simulateLoan(@RequestBody CreateBondResource resource,
+                                          @RequestParam(required = false) EScheduleEngine engine) {
         try {
             var command = resource.toCommand();
-            var loan = bondCommandService.handle(command);
+            var loan = bondCommandService.handle(command, engine);
 
             if (loan.isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("error", "No se pudo crear la simulación"));
@@ -57,6 +107,117 @@ public class BondController {
         }
     }
 
+    @PostMapping("/simulate/preview")
+    @Operation(summary = "Preview MIVivienda loan", description = "Compute a loan simulation in memory without persisting it")
+    public ResponseEntity<?> previewLoan(@RequestBody CreateBondResource resource,
+                                         @RequestParam(required = false) EScheduleEngine engine) {
+        try {
+            var command = resource.toCommand();
+            var loan = bondCommandService.simulate(command, engine);
+
+            return ResponseEntity.ok(BondResource.fromBond(loan));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Error interno del servidor: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/simulate/batch",
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                 produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Batch simulate MIVivienda loans", description = "Simulate a JSON array or NDJSON stream of loans in parallel; results are streamed back as NDJSON in input order")
+    public ResponseEntity<StreamingResponseBody> simulateLoanBatch(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                   @RequestBody String body,
+                                                                   @RequestParam(required = false) EScheduleEngine engine) {
+        try {
+            var commands = parseBatch(body, MediaType.parseMediaType(contentType));
+
+            StreamingResponseBody stream = out -> {
+                var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                batchSimulationService.handle(commands, engine, result -> {
+                    try {
+                        writer.write(objectMapper.writeValueAsString(BatchSimulationResultResource.fromResult(result)));
+                        writer.newLine();
+                        if ((result.index() + 1) % BATCH_FLUSH_INTERVAL == 0) writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            };
+
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+
+        } catch (JsonProcessingException e) {
+            return streamedError(HttpStatus.BAD_REQUEST, "JSON inválido: " + e.getOriginalMessage());
+        } catch (Exception e) {
+            return streamedError(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Convierte el cuerpo (arreglo JSON o NDJSON) en comandos diferidos; los errores de
+     * cada elemento se reportan en su propia línea de resultado
+     */
+    private List<Supplier<CreateBondCommand>> parseBatch(String body, MediaType contentType) throws JsonProcessingException {
+        if (MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            return body.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> (Supplier<CreateBondCommand>) () -> readCommand(line))
+                .toList();
+        }
+
+        List<CreateBondResource> resources = objectMapper.readValue(body, new TypeReference<List<CreateBondResource>>() {});
+        return resources.stream()
+            .map(resource -> (Supplier<CreateBondCommand>) () -> resource.toCommand())
+            .toList();
+    }
+
+    private CreateBondCommand readCommand(String line) {
+        try {
+            return objectMapper.readValue(line, CreateBondResource.class).toCommand();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    @PostMapping("/simulate/sweep")
+    @Operation(summary = "Sensitivity grid", description = "Evaluate cuota, TIR, TCEA and VAN across rate × term × grace × initial-fee combinations in memory")
+    public ResponseEntity<?> sweepLoan(@RequestBody SweepSimulationResource resource) {
+        try {
+            var result = sweepSimulationService.handle(resource.toCommand());
+            return ResponseEntity.ok(SweepResultResource.fromResult(result));
+
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Error interno del servidor: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/simulate/portfolio", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Price a loan portfolio", description = "Compute cuota, TIR, TCEA, VAN and totals for a JSON array of loans in memory, without persisting them; results keep input order")
+    public ResponseEntity<?> priceLoanPortfolio(@RequestBody List<CreateBondResource> resources) {
+        try {
+            List<Supplier<CreateBondCommand>> commands = resources.stream()
+                .map(resource -> (Supplier<CreateBondCommand>) () -> {
+                    if (resource == null) throw new IllegalArgumentException("El crédito no puede ser nulo");
+                    return resource.toCommand();
+                })
+                .toList();
+            var result = portfolioPricingService.handle(commands);
+            return ResponseEntity.ok(PortfolioPricingResultResource.fromResult(result));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Error interno del servidor: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update loan simulation", description = "Update and recalculate an existing loan simulation")
     public ResponseEntity<?> updateLoan(@PathVariable Long id, @RequestBody UpdateBondResource resource) {
@@ -70,6 +231,13 @@ public class BondController {
             var loanResource = BondResource.fromBond(updatedLoan.get());
             return ResponseEntity.ok(loanResource);
 
+        } catch (OptimisticLockingFailureException e) {
+            // Otra edición confirmó antes: se devuelve la versión vigente para que el cliente reintente
+            return bondQueryService.getCurrentVersion(id)
+                .<ResponseEntity<?>>map(version -> ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "error", "La simulación fue modificada por otra edición",
+                    "currentVersion", version)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
@@ -79,10 +247,17 @@ public class BondController {
     }
 
     @GetMapping("/my-loans")
-    @Operation(summary = "Get user's loan simulations", description = "Retrieve all loan simulations belonging to the authenticated user")
+    @Operation(summary = "Get user's loan simulations", description = "List the authenticated user's loan simulations with headline results, newest first, one page at a time (pass nextCursor back as cursor); the schedule is fetched per loan via GET /{id} or /{id}/amortization-table")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<?> getMyLoans() {
+    public ResponseEntity<?> getMyLoans(@RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "El límite debe estar entre 1 y " + MAX_PAGE_SIZE));
+            }
+            var position = KeysetCursor.decode(cursor);
+
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String userEmail = authentication.getName();
 
@@ -94,20 +269,48 @@ public class BondController {
                     .body(Map.of("error", "Usuario no encontrado"));
             }
 
-            var loans = bondQueryService.getLoansByUserId(userOpt.get().getId());
-
-            List<BondResource> loanResources = loans.stream()
-                .map(BondResource::fromBond)
-                .toList();
+            var page = bondQueryService.getLoanSummariesByUserId(userOpt.get().getId(), position, limit);
 
-            return ResponseEntity.ok(loanResources);
+            return ResponseEntity.ok(BondSummaryPageResource.fromPage(page));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Error al obtener las simulaciones: " + e.getMessage()));
         }
     }
 
+    @DeleteMapping("/my-loans")
+    @Operation(summary = "Delete user's loan simulations", description = "Delete all of the authenticated user's loan simulations, or only those matching the optional currency and createdBefore filters, in one transaction")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<?> deleteMyLoans(@RequestParam(required = false) String currency,
+                                           @RequestParam(required = false) Instant createdBefore) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userEmail = authentication.getName();
+
+            var userOpt = userQueryService
+                .handle(new pe.edu.upc.bonotech.iam.domain.model.queries.GetUserByEmailQuery(userEmail));
+
+            if (userOpt.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Usuario no encontrado"));
+            }
+
+            int deleted = bondCommandService.handle(
+                new DeleteUserBondsCommand(userOpt.get().getId(), currency, createdBefore));
+
+            return ResponseEntity.ok(Map.of("deleted", deleted));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Error interno al eliminar: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get loan details", description = "Get detailed information of a specific loan simulation")
     public ResponseEntity<?> getLoanById(@PathVariable Long id) {
@@ -152,18 +355,107 @@ public class BondController {
     }
 
 
-    @GetMapping("/{id}/amortization-table")
-    @Operation(summary = "Get amortization table", description = "Get the complete amortization table for a loan")
-    public ResponseEntity<?> getAmortizationTable(@PathVariable Long id) {
+    @GetMapping(value = "/{id}/amortization-table",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get amortization table", description = "Stream the amortization table (or the [from, to] period range) as a JSON array or NDJSON")
+    public ResponseEntity<StreamingResponseBody> getAmortizationTable(@PathVariable Long id,
+                                                                      @RequestParam(defaultValue = "1") int from,
+                                                                      @RequestParam(required = false) Integer to,
+                                                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
-            // Implementar para obtener solo la tabla de amortización
-            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
-                .body(Map.of("message", "Endpoint en desarrollo"));
+            int last = to != null ? to : Integer.MAX_VALUE;
+            if (from < 1 || last < from) {
+                return streamedError(HttpStatus.BAD_REQUEST, "Rango de períodos no válido");
+            }
+            if (bondQueryService.getScheduleStorage(id).isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            boolean ndjson = acceptsNdjson(accept);
+
+            StreamingResponseBody stream = out -> {
+                var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                var first = new boolean[]{true};
+                if (!ndjson) writer.write('[');
+
+                bondQueryService.streamAmortizationTable(id, from, last, row -> {
+                    try {
+                        if (ndjson) {
+                            writer.write(objectMapper.writeValueAsString(FlowResource.fromRow(row)));
+                            writer.newLine();
+                        } else {
+                            if (!first[0]) writer.write(',');
+                            writer.write(objectMapper.writeValueAsString(FlowResource.fromRow(row)));
+                        }
+                        first[0] = false;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                if (!ndjson) writer.write(']');
+                writer.flush();
+            };
+
+            return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(stream);
+
+        } catch (Exception e) {
+            return streamedError(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Spring solo transmite un StreamingResponseBody si el método declara
+     * ResponseEntity<StreamingResponseBody>, así que los errores también se escriben como flujo
+     */
+    private ResponseEntity<StreamingResponseBody> streamedError(HttpStatus status, String error) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Map.of("error", String.valueOf(error)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(out -> out.write(body));
+    }
+
+    /**
+     * NDJSON solo si el cliente lo nombra explícitamente; un Accept con comodines
+     * (cualquier tipo, application/*) recibe el arreglo JSON por defecto
+     */
+    private static boolean acceptsNdjson(String accept) {
+        return accept != null && MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    @GetMapping("/{id}/npv-profile")
+    @Operation(summary = "NPV profile", description = "Evaluate VAN at each annual discount rate in one pass over the stored schedule, without recalculating or persisting")
+    public ResponseEntity<?> getNpvProfile(@PathVariable Long id, @RequestParam List<BigDecimal> rates) {
+        try {
+            if (rates.isEmpty() || rates.size() > MAX_NPV_PROFILE_RATES) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Se requieren entre 1 y " + MAX_NPV_PROFILE_RATES + " tasas"));
+            }
+            if (rates.stream().anyMatch(rate -> rate == null || rate.compareTo(BigDecimal.ONE.negate()) <= 0)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Las tasas de descuento deben ser mayores que -1"));
+            }
+
+            var vans = bondQueryService.getNpvProfile(id, rates);
+
+            if (vans.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "No se encontró la simulación con ID: " + id));
+            }
+
+            return ResponseEntity.ok(NpvProfileResource.fromProfile(id, rates, vans.get()));
+
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("error", e.getMessage()));
+                .body(Map.of("error", "Error al calcular el perfil de VAN: " + e.getMessage()));
         }
     }
+
     @GetMapping("/{id}/with-conversion")
 @Operation(summary = "Get loan with currency conversion", description = "Get loan details with currency conversion information")
 public ResponseEntity<?> getLoanWithConversion(@PathVariable Long id) {
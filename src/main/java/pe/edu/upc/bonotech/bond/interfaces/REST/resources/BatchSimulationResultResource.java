@@ -0,0 +1,27 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BatchSimulationResult;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchSimulationResultResource(
+    int index,
+    String status,
+    Long loanId,
+    ResultsFlowResource resultsFlow,
+    String error
+) {
+    public static BatchSimulationResultResource fromResult(BatchSimulationResult result) {
+        if (!result.isSuccess()) {
+            return new BatchSimulationResultResource(result.index(), "ERROR", null, null, result.error());
+        }
+
+        var bond = result.bond();
+        var results = bond.getResultsFlow() != null
+            ? ResultsFlowResource.fromResultsFlow(bond.getResultsFlow())
+            : null;
+
+        return new BatchSimulationResultResource(result.index(), "OK", bond.getId(), results, null);
+    }
+}
@@ -8,6 +8,7 @@ import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
 
 public record BondResource(
     Long id,
+    long version,
     String name,
     String currency,
     BigDecimal loanAmount,
@@ -34,7 +35,7 @@ public record BondResource(
     ResultsFlowResource resultsFlow
 ) {
     public static BondResource fromBond(Bond bond) {
-        var flows = bond.getFlows().stream()
+        var flows = bond.getSchedule().stream()
             .map(FlowResource::fromFlow)
             .toList();
 
@@ -44,6 +45,7 @@ public record BondResource(
 
         return new BondResource(
             bond.getId(),
+            bond.getVersion(),
             bond.getName(),
             bond.getCurrency().toString(),
             bond.getLoanAmount(),
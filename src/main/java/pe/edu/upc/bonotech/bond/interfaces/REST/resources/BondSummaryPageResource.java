@@ -0,0 +1,21 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetPage;
+
+/**
+ * Página de simulaciones; nextCursor se envía tal cual en la siguiente petición (null en la última página)
+ */
+public record BondSummaryPageResource(
+    List<BondSummaryResource> items,
+    String nextCursor
+) {
+    public static BondSummaryPageResource fromPage(KeysetPage<BondSummary> page) {
+        return new BondSummaryPageResource(
+            page.items().stream().map(BondSummaryResource::fromSummary).toList(),
+            page.next() != null ? page.next().encode() : null
+        );
+    }
+}
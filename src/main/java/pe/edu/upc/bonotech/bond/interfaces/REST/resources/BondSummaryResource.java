@@ -0,0 +1,48 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
+
+public record BondSummaryResource(
+    Long id,
+    String name,
+    String currency,
+    BigDecimal loanAmount,
+    BigDecimal financedCapital,
+    BigDecimal annualRate,
+    String paymentFrequency,
+    Integer totalMonths,
+    Integer gracePeriodMonths,
+    Instant createdAt,
+    BigDecimal firstInstallment,
+    BigDecimal tcea,
+    BigDecimal tir,
+    BigDecimal van,
+    BigDecimal totalPaid,
+    BigDecimal averageMonthlyPayment,
+    BigDecimal costOfCredit
+) {
+    public static BondSummaryResource fromSummary(BondSummary summary) {
+        return new BondSummaryResource(
+            summary.id(),
+            summary.name(),
+            summary.currency() != null ? summary.currency().toString() : null,
+            summary.loanAmount(),
+            summary.financedCapital(),
+            summary.annualRate(),
+            summary.paymentFrequency() != null ? summary.paymentFrequency().toString() : null,
+            summary.totalMonths(),
+            summary.gracePeriodMonths(),
+            summary.createdAt(),
+            summary.firstInstallment(),
+            summary.tcea(),
+            summary.tir(),
+            summary.van(),
+            summary.totalPaid(),
+            summary.averageMonthlyPayment(),
+            summary.costOfCredit()
+        );
+    }
+}
@@ -42,7 +42,7 @@ public record BondWithConversionResource(
 ) {
 
     public static BondWithConversionResource fromBond(Bond bond, CurrencyConversionService conversionService) {
-        var flows = bond.getFlows().stream()
+        var flows = bond.getSchedule().stream()
             .map(FlowResource::fromFlow)
             .toList();
 
@@ -3,6 +3,7 @@ package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
 import java.math.BigDecimal;
 
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
 
 public record FlowResource(
     Integer periodNumber,
@@ -34,4 +35,21 @@ public record FlowResource(
             flow.getPeriodicRate()
         );
     }
-}
\ No newline at end of file
+
+    public static FlowResource fromRow(ScheduleRow row) {
+        return new FlowResource(
+            row.periodNumber(),
+            row.periodType(),
+            row.initialBalance(),
+            row.finalBalance(),
+            row.basePayment(),
+            row.interest(),
+            row.amortization(),
+            row.insuranceAmount(),
+            row.fixedInsuranceAmount(),
+            row.commissionAmount(),
+            row.totalPayment(),
+            row.periodicRate()
+        );
+    }
+}
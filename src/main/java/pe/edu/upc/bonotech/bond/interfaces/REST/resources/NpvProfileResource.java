@@ -0,0 +1,24 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Curva VAN vs. tasa de descuento anual de una simulación
+ */
+public record NpvProfileResource(
+    Long loanId,
+    List<Point> points
+) {
+    public record Point(BigDecimal discountRate, BigDecimal van) {
+    }
+
+    public static NpvProfileResource fromProfile(Long loanId, List<BigDecimal> discountRates, List<BigDecimal> vans) {
+        List<Point> points = new ArrayList<>(discountRates.size());
+        for (int j = 0; j < discountRates.size(); j++) {
+            points.add(new Point(discountRates.get(j), j < vans.size() ? vans.get(j) : null));
+        }
+        return new NpvProfileResource(loanId, points);
+    }
+}
@@ -0,0 +1,63 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PortfolioPricingResult;
+
+/**
+ * Resultado de un crédito de la cartera, en el orden de entrada (van se omite sin tasa de descuento)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PortfolioPricingResultResource(
+    int index,
+    String status,
+    Double cuota,
+    Double van,
+    Double tir,
+    Double tcea,
+    Double totalBasePayments,
+    Double totalInterest,
+    Double totalAmortization,
+    Double totalInsurance,
+    Double totalFixedInsurance,
+    Double totalCommissions,
+    Double totalCosts,
+    Double totalPaid,
+    Double costOfCredit,
+    String error
+) {
+    public static List<PortfolioPricingResultResource> fromResult(PortfolioPricingResult result) {
+        List<PortfolioPricingResultResource> resources = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            if (!result.isSuccess(i)) {
+                resources.add(new PortfolioPricingResultResource(i, "ERROR",
+                    null, null, null, null, null, null, null, null, null, null, null, null, null,
+                    result.errors()[i]));
+                continue;
+            }
+            resources.add(new PortfolioPricingResultResource(i, "OK",
+                valueOf(result.cuota()[i]),
+                valueOf(result.van()[i]),
+                valueOf(result.tir()[i]),
+                valueOf(result.tcea()[i]),
+                valueOf(result.totalBasePayments()[i]),
+                valueOf(result.totalInterest()[i]),
+                valueOf(result.totalAmortization()[i]),
+                valueOf(result.totalInsurance()[i]),
+                valueOf(result.totalFixedInsurance()[i]),
+                valueOf(result.totalCommissions()[i]),
+                valueOf(result.totalCosts()[i]),
+                valueOf(result.totalPaid()[i]),
+                valueOf(result.costOfCredit()[i]),
+                null));
+        }
+        return resources;
+    }
+
+    private static Double valueOf(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+}
@@ -0,0 +1,55 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.SweepSimulationCommand;
+
+/**
+ * Eje de una grilla de sensibilidad: lista explícita de valores o rango from..to con paso step
+ */
+public record SweepAxisResource(
+    List<BigDecimal> values,
+    BigDecimal from,
+    BigDecimal to,
+    BigDecimal step
+) {
+    private static final int MAX_VALUES = SweepSimulationCommand.MAX_AXIS_VALUES;
+
+    /**
+     * Valores del eje (lista vacía si no se especificó, para usar el valor del crédito base)
+     */
+    public List<BigDecimal> expand() {
+        if (values != null && !values.isEmpty()) {
+            if (values.size() > MAX_VALUES) {
+                throw new IllegalArgumentException("Un eje de la grilla no puede tener más de " + MAX_VALUES + " valores");
+            }
+            return values;
+        }
+        if (from == null) return List.of();
+        if (to == null || step == null) return List.of(from);
+
+        if (step.signum() <= 0 || to.compareTo(from) < 0) {
+            throw new IllegalArgumentException("Rango de grilla no válido: from <= to y step > 0");
+        }
+        long count = to.subtract(from).divideToIntegralValue(step).longValue() + 1;
+        if (count > MAX_VALUES) {
+            throw new IllegalArgumentException("Un eje de la grilla no puede tener más de " + MAX_VALUES + " valores");
+        }
+
+        List<BigDecimal> expanded = new ArrayList<>((int) count);
+        for (BigDecimal value = from; value.compareTo(to) <= 0; value = value.add(step)) {
+            expanded.add(value);
+        }
+        return expanded;
+    }
+
+    public static List<BigDecimal> expand(SweepAxisResource axis) {
+        return axis != null ? axis.expand() : List.of();
+    }
+
+    public static List<Integer> expandIntegers(SweepAxisResource axis) {
+        return expand(axis).stream().map(BigDecimal::intValueExact).toList();
+    }
+}
@@ -0,0 +1,43 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.SweepResult;
+
+/**
+ * Matriz de resultados de la grilla: cada métrica es un arreglo plano en orden
+ * tasa → plazo → gracia → cuota inicial (null = celda no calculable)
+ */
+public record SweepResultResource(
+    List<BigDecimal> annualRates,
+    List<Integer> totalMonths,
+    List<Integer> gracePeriodMonths,
+    List<BigDecimal> initialFeeAmounts,
+    List<Double> cuota,
+    List<Double> tir,
+    List<Double> tcea,
+    List<Double> van
+) {
+    public static SweepResultResource fromResult(SweepResult result) {
+        return new SweepResultResource(
+            result.annualRates(),
+            result.totalMonths(),
+            result.gracePeriodMonths(),
+            result.initialFeeAmounts(),
+            toList(result.cuota()),
+            toList(result.tir()),
+            toList(result.tcea()),
+            toList(result.van())
+        );
+    }
+
+    private static List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(Double.isFinite(value) ? value : null);
+        }
+        return list;
+    }
+}
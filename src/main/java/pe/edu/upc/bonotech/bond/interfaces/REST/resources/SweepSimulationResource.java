@@ -0,0 +1,23 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST.resources;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.SweepSimulationCommand;
+
+public record SweepSimulationResource(
+    CreateBondResource base,
+    SweepAxisResource annualRate,
+    SweepAxisResource totalMonths,
+    SweepAxisResource gracePeriodMonths,
+    SweepAxisResource initialFeeAmount
+) {
+    public SweepSimulationCommand toCommand() {
+        if (base == null) throw new IllegalArgumentException("El crédito base no puede ser nulo");
+
+        return new SweepSimulationCommand(
+            base.toCommand(),
+            SweepAxisResource.expand(annualRate),
+            SweepAxisResource.expandIntegers(totalMonths),
+            SweepAxisResource.expandIntegers(gracePeriodMonths),
+            SweepAxisResource.expand(initialFeeAmount)
+        );
+    }
+}
@@ -32,4 +32,5 @@ public class UpdateBondResource {
     private BigDecimal finalCommission;
     private LocalDate disbursementDate;
     private BigDecimal discountRate;
+    private Long version;               // Versión leída por el cliente (obligatoria: sin ella 400, si no coincide 409)
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package pe.edu.upc.bonotech.iam.application.internal.queryservices;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import pe.edu.upc.bonotech.iam.domain.model.aggregates.User;
 import pe.edu.upc.bonotech.iam.domain.model.queries.GetUserByEmailQuery;
@@ -10,6 +11,7 @@ import pe.edu.upc.bonotech.iam.domain.services.UserQueryService;
 import pe.edu.upc.bonotech.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 
 @Service
+@Transactional(readOnly = true)
 public class UserQueryServiceImpl implements UserQueryService {
     private final UserRepository userRepository;
 
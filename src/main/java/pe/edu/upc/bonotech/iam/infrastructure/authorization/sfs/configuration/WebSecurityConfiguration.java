@@ -70,6 +70,7 @@ public class WebSecurityConfiguration {
                         .requestMatchers(
                                 "/v1/authentication/**",
                                 "/v1/loans/simulate",
+                                "/v1/loans/simulate/preview",
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
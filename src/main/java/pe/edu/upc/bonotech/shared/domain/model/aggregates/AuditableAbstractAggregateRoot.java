@@ -13,14 +13,20 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 
 @EntityListeners(AuditingEntityListener.class)
 @MappedSuperclass
 public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
+    public static final String ID_SEQUENCE = "entity_ids";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Secuencia con optimizador pooled: los ids se asignan en memoria y permiten inserts por lotes (IDENTITY no)
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
 
@@ -36,4 +42,8 @@ public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>>
     @Column(nullable = false)
     private Instant updatedAt;
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
 }
@@ -0,0 +1,46 @@
+package pe.edu.upc.bonotech.shared.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Posición en un listado ordenado por (createdAt DESC, id DESC): la página siguiente empieza
+ * en la primera fila estrictamente anterior a este par. Se expone a los clientes como un
+ * token opaco ({@link #encode()}).
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+
+    /**
+     * Cursor anterior a cualquier fila: la primera página usa la misma consulta e índice que las demás
+     */
+    private static final KeysetCursor START = new KeysetCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public static KeysetCursor start() {
+        return START;
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token de {@link #encode()}; null o vacío = primera página
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return START;
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) throw new IllegalArgumentException("Cursor no válido");
+
+            return new KeysetCursor(
+                Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("Cursor no válido", e);
+        }
+    }
+}
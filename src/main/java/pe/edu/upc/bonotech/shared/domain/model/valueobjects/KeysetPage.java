@@ -0,0 +1,26 @@
+package pe.edu.upc.bonotech.shared.domain.model.valueobjects;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado por keyset: los elementos y el cursor de la siguiente (null en la última)
+ */
+public record KeysetPage<T>(List<T> items, KeysetCursor next) {
+
+    /**
+     * Construye la página a partir de una consulta que pidió {@code limit + 1} filas: la fila
+     * sobrante solo indica que hay una página más
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new KeysetPage<>(List.copyOf(items), cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), next);
+    }
+}
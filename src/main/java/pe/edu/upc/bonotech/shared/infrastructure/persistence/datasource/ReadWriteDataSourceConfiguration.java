@@ -0,0 +1,78 @@
+package pe.edu.upc.bonotech.shared.infrastructure.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Con app.datasource.replica.urls definido, el DataSource de la aplicación enruta las transacciones
+ * {@code @Transactional(readOnly = true)} a las réplicas y el resto al primario (spring.datasource.*).
+ * Sin réplicas configuradas se usa el DataSource autoconfigurado de siempre.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.urls:}'.isBlank()")
+public class ReadWriteDataSourceConfiguration {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword) {
+        DataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaUrls.get(i).trim())
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+            replica.setReadOnly(true);
+            replica.setPoolName("replica-" + i);
+            replicas.put("replica-" + i, replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * DataSource de la aplicación (JPA, JdbcTemplate): la conexión física se obtiene en la primera
+     * sentencia, ya conocida la marca readOnly de la transacción
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReadWriteRoutingDataSource routingDataSource,
+            @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${app.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        Map<Object, DataSource> resolved = routingDataSource.getResolvedDataSources();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        routingDataSource.getReplicaKeys().forEach(key -> replicas.put(key, resolved.get(key)));
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+            resolved.get(ReadWriteRoutingDataSource.PRIMARY), replicas, routingDataSource,
+            Duration.ofMillis(maxLagMs), Clock.systemUTC());
+        monitor.start(Duration.ofMillis(checkIntervalMs));
+        return monitor;
+    }
+}
@@ -0,0 +1,82 @@
+package pe.edu.upc.bonotech.shared.infrastructure.persistence.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envía las transacciones de solo lectura a una réplica disponible (por turnos) y todo lo demás al
+ * primario. Debe usarse detrás de un LazyConnectionDataSourceProxy: la conexión se elige en la primera
+ * sentencia, cuando la marca readOnly de la transacción ya está establecida.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Set<String> availableReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Las réplicas empiezan no disponibles hasta que el monitor de retraso las confirma
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        afterPropertiesSet();
+    }
+
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    /**
+     * Habilita o retira una réplica del enrutamiento (p. ej. por retraso de replicación)
+     */
+    public void setReplicaAvailable(String replicaKey, boolean available) {
+        if (available) {
+            availableReplicas.add(replicaKey);
+        } else {
+            availableReplicas.remove(replicaKey);
+        }
+    }
+
+    public boolean isReplicaAvailable(String replicaKey) {
+        return availableReplicas.contains(replicaKey);
+    }
+
+    /**
+     * Cierra los pools del primario y las réplicas (no son beans propios)
+     */
+    public void close() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return PRIMARY;
+
+        // Por turnos entre las réplicas disponibles; sin ninguna, la lectura va al primario
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (availableReplicas.contains(key)) return key;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,112 @@
+package pe.edu.upc.bonotech.shared.infrastructure.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Mide el retraso de replicación con un latido: el primario escribe la hora actual en
+ * replication_heartbeats y cada réplica se lee de vuelta; la diferencia es el retraso. Una réplica
+ * con más retraso que el máximo (o que no responde) sale del enrutamiento hasta recuperarse.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeats";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas,
+                             ReadWriteRoutingDataSource routingDataSource, Duration maxLag, Clock clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = new LinkedHashMap<>();
+        replicas.forEach((key, dataSource) -> this.replicas.put(key, new JdbcTemplate(dataSource)));
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    /**
+     * Crea la tabla del latido en el primario si no existe (las réplicas la reciben por replicación)
+     */
+    public void initialize() {
+        primary.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+            + " (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+    }
+
+    /**
+     * Escribe el latido (milisegundos epoch) en el primario
+     */
+    public void beat() {
+        long now = clock.millis();
+        int updated = primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1", now);
+        if (updated == 0) {
+            primary.update("INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)", now);
+        }
+    }
+
+    /**
+     * Lee el latido en cada réplica y la habilita solo si su retraso no supera el máximo
+     */
+    public void check() {
+        replicas.forEach((key, replica) -> {
+            boolean available;
+            try {
+                Long beatAt = replica.query("SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+                available = beatAt != null && clock.millis() - beatAt <= maxLag.toMillis();
+            } catch (DataAccessException e) {
+                available = false;
+            }
+
+            if (available != routingDataSource.isReplicaAvailable(key)) {
+                LOGGER.info("Réplica {} {}", key, available ? "habilitada" : "retirada por retraso o error");
+            }
+            routingDataSource.setReplicaAvailable(key, available);
+        });
+    }
+
+    /**
+     * Latido y comprobación periódicos en un hilo propio; la primera comprobación es inmediata
+     */
+    public void start(Duration interval) {
+        initialize();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::beatAndCheck, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void beatAndCheck() {
+        try {
+            beat();
+        } catch (DataAccessException e) {
+            LOGGER.warn("No se pudo escribir el latido de replicación: {}", e.getMessage());
+        }
+        check();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package pe.edu.upc.bonotech.shared.infrastructure.persistence.jpa.configuration;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import pe.edu.upc.bonotech.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+
+/**
+ * Migración de ids IDENTITY a la secuencia pooled compartida.
+ * En MySQL Hibernate emula la secuencia con una tabla (columna next_val); si la tabla es nueva
+ * en una base con datos existentes se adelanta por encima del mayor id ya asignado.
+ */
+@Component
+public class PooledIdSequenceInitializer implements InitializingBean {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdSequenceInitializer(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isTableBackedSequence()) return;
+
+        long maxId = findMaxAssignedId();
+        jdbcTemplate.update(
+            "UPDATE " + AuditableAbstractAggregateRoot.ID_SEQUENCE + " SET next_val = ? WHERE next_val <= ?",
+            maxId + AuditableAbstractAggregateRoot.ID_ALLOCATION_SIZE + 1,
+            maxId
+        );
+    }
+
+    private boolean isTableBackedSequence() {
+        Boolean mysql = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql"));
+        return Boolean.TRUE.equals(mysql);
+    }
+
+    private long findMaxAssignedId() {
+        long maxId = 0;
+        try (var entityManager = entityManagerFactory.createEntityManager()) {
+            for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+                if (!AuditableAbstractAggregateRoot.class.isAssignableFrom(entity.getJavaType())) continue;
+
+                Long max = entityManager
+                    .createQuery("SELECT COALESCE(MAX(e.id), 0) FROM " + entity.getName() + " e", Long.class)
+                    .getSingleResult();
+                maxId = Math.max(maxId, max);
+            }
+        }
+        return maxId;
+    }
+}
@@ -0,0 +1,129 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BatchSimulationResult;
+import pe.edu.upc.bonotech.bond.domain.services.IBondCommandService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class BondBatchSimulationServiceTest {
+
+    @Mock
+    private IBondCommandService bondCommandService;
+
+    @InjectMocks
+    private BondBatchSimulationService batchSimulationService;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        ReflectionTestUtils.setField(batchSimulationService, "simulationPool", pool);
+        ReflectionTestUtils.setField(batchSimulationService, "chunkSize", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testResultsKeepInputOrderAndIsolateErrors() {
+        // Given - 7 elementos (3 bloques), el elemento 4 es inválido
+        when(bondCommandService.simulate(any(CreateBondCommand.class), isNull()))
+            .thenAnswer(invocation -> new Bond(invocation.getArgument(0)));
+        List<Supplier<CreateBondCommand>> commands = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            int index = i;
+            commands.add(() -> {
+                if (index == 4) throw new IllegalArgumentException("Monto del crédito debe ser positivo");
+                return command("Loan " + index);
+            });
+        }
+
+        // When
+        List<BatchSimulationResult> results = new ArrayList<>();
+        batchSimulationService.handle(commands, null, results::add);
+
+        // Then
+        assertEquals(7, results.size());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(i, results.get(i).index());
+        }
+        assertFalse(results.get(4).isSuccess());
+        assertEquals("Monto del crédito debe ser positivo", results.get(4).error());
+        assertEquals("Loan 6", results.get(6).bond().getName());
+        verify(bondCommandService, times(3)).persistSimulations(anyList());
+    }
+
+    @Test
+    void testPersistenceFailureOnlyAffectsOffendingRows() {
+        // Given - guardar cualquier lista que contenga "Loan 1" falla
+        when(bondCommandService.simulate(any(CreateBondCommand.class), isNull()))
+            .thenAnswer(invocation -> new Bond(invocation.getArgument(0)));
+        when(bondCommandService.persistSimulations(anyList())).thenAnswer(invocation -> {
+            List<Bond> bonds = invocation.getArgument(0);
+            if (bonds.stream().anyMatch(b -> b.getName().equals("Loan 1"))) {
+                throw new IllegalStateException("Data too long for column 'name'");
+            }
+            return bonds;
+        });
+        List<Supplier<CreateBondCommand>> commands = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int index = i;
+            commands.add(() -> command("Loan " + index));
+        }
+
+        // When
+        List<BatchSimulationResult> results = new ArrayList<>();
+        batchSimulationService.handle(commands, null, results::add);
+
+        // Then - el primer bloque se reintenta fila por fila; el segundo se guarda entero
+        assertEquals(6, results.size());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).error().contains("Data too long"));
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        assertTrue(results.subList(3, 6).stream().allMatch(BatchSimulationResult::isSuccess));
+        assertEquals("Loan 2", results.get(2).bond().getName());
+        verify(bondCommandService, times(5)).persistSimulations(anyList());
+        // Las 3 filas del bloque fallido se vuelven a simular antes de guardarlas solas
+        verify(bondCommandService, times(9)).simulate(any(CreateBondCommand.class), isNull());
+    }
+
+    private static CreateBondCommand command(String name) {
+        return new CreateBondCommand(
+            1L, name, "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+    }
+}
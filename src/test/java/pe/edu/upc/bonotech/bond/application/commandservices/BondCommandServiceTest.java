@@ -6,14 +6,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
 import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
 import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
 import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
 import pe.edu.upc.bonotech.shared.domain.services.CurrencyConversionService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +34,12 @@ class BondCommandServiceTest {
     @Mock
     private CurrencyConversionService currencyConversionService;
 
+    @Mock
+    private ScheduleRegenerator scheduleRegenerator;
+
+    @Mock
+    private LoanSummaryProjector loanSummaryProjector;
+
     @InjectMocks
     private BondCommandService bondCommandService;
 
@@ -64,7 +75,20 @@ class BondCommandServiceTest {
         assertFalse(bond.getFlows().isEmpty()); // Debería tener flujos generados
         assertNotNull(bond.getResultsFlow()); // Debería tener resultados calculados
         
-        verify(bondRepository, times(2)).save(any(Bond.class));
+        verify(bondRepository, times(1)).save(any(Bond.class));
+        verify(loanSummaryProjector, times(1)).created(any(Bond.class));
+    }
+
+    @Test
+    void testSimulateDoesNotPersist() {
+        // When
+        Bond bond = bondCommandService.simulate(validCommand, null);
+
+        // Then
+        assertNull(bond.getId());
+        assertEquals(240, bond.getFlows().size());
+        assertNotNull(bond.getResultsFlow());
+        verifyNoInteractions(bondRepository);
     }
 
     @Test
@@ -88,4 +112,128 @@ class BondCommandServiceTest {
             bondCommandService.handle(invalidCommand);
         });
     }
-}
\ No newline at end of file
+
+    private Bond storedLoan() {
+        Bond bond = bondCommandService.simulate(validCommand, null);
+        when(bondRepository.findForRecalculationById(1L)).thenReturn(Optional.of(bond));
+        when(scheduleRegenerator.attachSchedule(any(Bond.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bondRepository.save(any(Bond.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return bond;
+    }
+
+    @Test
+    void testPartialUpdateOfNameTouchesNothing() {
+        // Given
+        Bond bond = storedLoan();
+        List<Flow> flows = List.copyOf(bond.getFlows());
+        BigDecimal totalPaid = bond.getResultsFlow().getTotalPaid();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(bond.getVersion());
+        resource.setName("Renombrado");
+        resource.setAnnualRate(new BigDecimal("0.0800")); // mismo valor, otra escala
+
+        // When
+        Bond updated = bondCommandService.partialUpdateAndRecalculateLoan(1L, resource).orElseThrow();
+
+        // Then
+        assertEquals("Renombrado", updated.getName());
+        assertEquals(flows, updated.getFlows());
+        assertSame(totalPaid, updated.getResultsFlow().getTotalPaid());
+    }
+
+    @Test
+    void testPartialUpdateOfCostsPatchesColumnsOnly() {
+        // Given
+        Bond bond = storedLoan();
+        Flow first = bond.getFlows().get(0);
+        BigDecimal basePayment = first.getBasePayment();
+        BigDecimal totalPayment = first.getTotalPayment();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(bond.getVersion());
+        resource.setFixedInsurance(new BigDecimal("30.00"));
+        resource.setPeriodicCommission(new BigDecimal("12.00"));
+
+        // When
+        Bond updated = bondCommandService.partialUpdateAndRecalculateLoan(1L, resource).orElseThrow();
+
+        // Then
+        assertSame(first, updated.getFlows().get(0));
+        assertEquals(0, basePayment.compareTo(first.getBasePayment()));
+        assertEquals(0, totalPayment.add(new BigDecimal("7.00")).compareTo(first.getTotalPayment()));
+        assertTrue(updated.getFlows().stream().allMatch(f -> f.getCommissionAmount().compareTo(new BigDecimal("12.00")) == 0));
+        assertEquals(0, new BigDecimal("7200.00").compareTo(updated.getResultsFlow().getTotalFixedInsurance()));
+    }
+
+    @Test
+    void testPartialUpdateOfRateRebuildsSchedule() {
+        // Given
+        Bond bond = storedLoan();
+        BigDecimal basePayment = bond.getFlows().get(0).getBasePayment();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(bond.getVersion());
+        resource.setAnnualRate(new BigDecimal("0.09"));
+
+        // When
+        Bond updated = bondCommandService.partialUpdateAndRecalculateLoan(1L, resource).orElseThrow();
+
+        // Then
+        assertEquals(240, updated.getFlows().size());
+        assertTrue(updated.getFlows().get(0).getBasePayment().compareTo(basePayment) > 0);
+    }
+
+    @Test
+    void testPartialUpdateWithStaleVersionIsRejectedBeforeRecalculating() {
+        // Given
+        Bond bond = bondCommandService.simulate(validCommand, null);
+        when(bondRepository.findForRecalculationById(1L)).thenReturn(Optional.of(bond));
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setAnnualRate(new BigDecimal("0.09"));
+        resource.setVersion(bond.getVersion() + 1);
+
+        // When / Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> bondCommandService.partialUpdateAndRecalculateLoan(1L, resource));
+        assertEquals(0, new BigDecimal("0.08").compareTo(bond.getAnnualRate()));
+        verify(bondRepository, never()).save(any(Bond.class));
+        verifyNoInteractions(scheduleRegenerator, loanSummaryProjector);
+    }
+
+    @Test
+    void testPartialUpdateWithoutVersionIsRejected() {
+        // Given
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setAnnualRate(new BigDecimal("0.09"));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> bondCommandService.partialUpdateAndRecalculateLoan(1L, resource));
+        verifyNoInteractions(bondRepository);
+    }
+
+    @Test
+    void testFullUpdateWithStaleVersionIsRejected() {
+        // Given
+        Bond bond = bondCommandService.simulate(validCommand, null);
+        when(bondRepository.findForRecalculationById(1L)).thenReturn(Optional.of(bond));
+
+        // When / Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> bondCommandService.updateAndRecalculateLoan(1L, validCommand, bond.getVersion() + 1));
+        verify(bondRepository, never()).save(any(Bond.class));
+    }
+
+    @Test
+    void testPartialUpdateOfMissingLoan() {
+        // Given
+        when(bondRepository.findForRecalculationById(99L)).thenReturn(Optional.empty());
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(0L);
+
+        // When
+        Optional<Bond> result = bondCommandService.partialUpdateAndRecalculateLoan(99L, resource);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(bondRepository, never()).save(any(Bond.class));
+    }
+}
@@ -0,0 +1,151 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PortfolioPricingResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BondPortfolioPricingServiceTest {
+
+    private static final double CENT = 0.005;
+    private static final double RATE = 1e-8;
+
+    private final BondPortfolioPricingService portfolioPricingService = new BondPortfolioPricingService();
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        ReflectionTestUtils.setField(portfolioPricingService, "simulationPool", pool);
+        ReflectionTestUtils.setField(portfolioPricingService, "blockSize", 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static CreateBondCommand command(String frequency, int periods, String rate, String graceType,
+                                             int graceMonths, String discountRate) {
+        return new CreateBondCommand(
+            1L, "Cartera", "PEN",
+            new BigDecimal("350000"), new BigDecimal("37500"),
+            new BigDecimal("0.10"), new BigDecimal("35000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal(rate),
+            "ANNUALLY", frequency, periods, graceType, graceMonths,
+            new BigDecimal("0.00049"), new BigDecimal("28.50"),
+            new BigDecimal("450.00"), new BigDecimal("9.90"), new BigDecimal("150.00"),
+            LocalDate.now(), new BigDecimal(discountRate)
+        );
+    }
+
+    private static List<CreateBondCommand> portfolio() {
+        List<CreateBondCommand> commands = new ArrayList<>();
+        String[][] frequencies = {{"MONTHLY", "300"}, {"QUARTERLY", "120"}, {"SEMI_ANNUALLY", "60"}, {"ANNUALLY", "30"}};
+        String[] rates = {"0.005", "0.075", "0.20"};
+        String[][] graces = {{"NONE", "0"}, {"PARTIAL", "6"}, {"TOTAL", "6"}};
+        for (String[] frequency : frequencies) {
+            for (int periods : new int[]{12, Integer.parseInt(frequency[1])}) {
+                for (String rate : rates) {
+                    for (String[] grace : graces) {
+                        commands.add(command(frequency[0], periods, rate, grace[0], Integer.parseInt(grace[1]),
+                            commands.size() % 2 == 0 ? "0.06" : "0"));
+                    }
+                }
+            }
+        }
+        return commands;
+    }
+
+    private static List<Supplier<CreateBondCommand>> deferred(List<CreateBondCommand> commands) {
+        return commands.stream().<Supplier<CreateBondCommand>>map(command -> () -> command).toList();
+    }
+
+    /**
+     * Camino por objeto: mismo cálculo que BondCommandService.simulate + ResultsFlow
+     */
+    private static ResultsFlow perObject(Bond bond) {
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+        ResultsFlow results = new ResultsFlow();
+        results.setBond(bond);
+        results.calculateClosedFormTotals();
+        if (bond.getDiscountRate().signum() > 0) {
+            results.calculateVAN(bond.getDiscountRate());
+        }
+        results.calculateTIR();
+        return results;
+    }
+
+    @Test
+    void testPortfolioMatchesPerObjectSimulation() {
+        // Given
+        List<CreateBondCommand> commands = portfolio();
+
+        // When
+        PortfolioPricingResult result = portfolioPricingService.handle(deferred(commands));
+
+        // Then
+        assertEquals(commands.size(), result.size());
+        for (int i = 0; i < commands.size(); i++) {
+            Bond bond = new Bond(commands.get(i));
+            ResultsFlow expected = perObject(bond);
+            int grace = bond.getGracePeriodMonths();
+            String label = "crédito " + i;
+
+            assertTrue(result.isSuccess(i), label);
+            assertEquals(bond.getFlows().get(grace).getBasePayment().doubleValue(), result.cuota()[i], CENT, label);
+            assertEquals(expected.getTir().doubleValue(), result.tir()[i], RATE, label);
+            assertEquals(expected.getTcea().doubleValue(), result.tcea()[i], RATE, label);
+            assertEquals(expected.getTotalBasePayments().doubleValue(), result.totalBasePayments()[i], CENT, label);
+            assertEquals(expected.getTotalInterest().doubleValue(), result.totalInterest()[i], CENT, label);
+            assertEquals(expected.getTotalAmortization().doubleValue(), result.totalAmortization()[i], CENT, label);
+            assertEquals(expected.getTotalInsurance().doubleValue(), result.totalInsurance()[i], CENT, label);
+            assertEquals(expected.getTotalCosts().doubleValue(), result.totalCosts()[i], CENT, label);
+            assertEquals(expected.getTotalPaid().doubleValue(), result.totalPaid()[i], CENT, label);
+            assertEquals(expected.getCostOfCredit().doubleValue(), result.costOfCredit()[i], CENT, label);
+            if (expected.getVan() != null) {
+                assertEquals(expected.getVan().doubleValue(), result.van()[i], CENT, label);
+            } else {
+                assertTrue(Double.isNaN(result.van()[i]), label);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidCommandDoesNotStopThePortfolio() {
+        // Given
+        List<Supplier<CreateBondCommand>> commands = List.of(
+            () -> command("MONTHLY", 120, "0.08", "NONE", 0, "0.06"),
+            () -> command("MONTHLY", 0, "0.08", "NONE", 0, "0.06"),
+            () -> { throw new IllegalArgumentException("Monto del crédito debe ser positivo"); },
+            () -> command("MONTHLY", 240, "0.09", "PARTIAL", 3, "0.06")
+        );
+
+        // When
+        PortfolioPricingResult result = portfolioPricingService.handle(commands);
+
+        // Then
+        assertTrue(result.isSuccess(0));
+        assertFalse(result.isSuccess(1));
+        assertTrue(Double.isNaN(result.cuota()[1]));
+        assertEquals("Monto del crédito debe ser positivo", result.errors()[2]);
+        assertTrue(result.isSuccess(3));
+        assertTrue(result.tcea()[3] > 0.09);
+    }
+}
@@ -0,0 +1,157 @@
+package pe.edu.upc.bonotech.bond.application.commandservices;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.commands.SweepSimulationCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.SweepResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BondSweepSimulationServiceTest {
+
+    private final BondSweepSimulationService sweepSimulationService = new BondSweepSimulationService();
+
+    private ForkJoinPool pool;
+
+    private final CreateBondCommand base = new CreateBondCommand(
+        1L, "Grilla", "PEN",
+        new BigDecimal("100000"), new BigDecimal("20000"),
+        new BigDecimal("0.10"), new BigDecimal("10000"),
+        new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+        "ANNUALLY", "MONTHLY", 240, "PARTIAL", 0,
+        new BigDecimal("0.0005"), new BigDecimal("25.00"),
+        new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+        LocalDate.now(), new BigDecimal("0.06")
+    );
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        ReflectionTestUtils.setField(sweepSimulationService, "simulationPool", pool);
+        ReflectionTestUtils.setField(sweepSimulationService, "maxCells", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testGridMatchesIndividualSimulations() {
+        // Given
+        var command = new SweepSimulationCommand(base,
+            List.of(new BigDecimal("0.07"), new BigDecimal("0.10")),
+            List.of(120, 240),
+            List.of(0, 6),
+            List.of(new BigDecimal("10000"), new BigDecimal("20000")));
+
+        // When
+        SweepResult result = sweepSimulationService.handle(command);
+
+        // Then
+        assertEquals(16, result.cells());
+        for (int r = 0; r < 2; r++) {
+            for (int t = 0; t < 2; t++) {
+                for (int g = 0; g < 2; g++) {
+                    for (int f = 0; f < 2; f++) {
+                        Bond bond = new Bond(command.cell(command.annualRates().get(r), command.totalMonths().get(t),
+                            command.gracePeriodMonths().get(g), command.initialFeeAmounts().get(f)));
+                        List<Flow> flows = ScheduleEngine.BIG_DECIMAL.generate(bond);
+                        double expectedCuota = flows.get(command.gracePeriodMonths().get(g)).getBasePayment().doubleValue();
+
+                        int i = result.index(r, t, g, f);
+                        assertEquals(expectedCuota, result.cuota()[i], 0.005);
+                        assertTrue(result.tcea()[i] > command.annualRates().get(r).doubleValue(),
+                            "La TCEA incluye seguros y comisiones");
+                        assertTrue(Double.isFinite(result.van()[i]));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testHigherRateGivesHigherCuotaAndTcea() {
+        // Given
+        var command = new SweepSimulationCommand(base,
+            List.of(new BigDecimal("0.06"), new BigDecimal("0.12")), null, null, null);
+
+        // When
+        SweepResult result = sweepSimulationService.handle(command);
+
+        // Then
+        assertEquals(2, result.cells());
+        assertTrue(result.cuota()[1] > result.cuota()[0]);
+        assertTrue(result.tcea()[1] > result.tcea()[0]);
+    }
+
+    @Test
+    void testInvalidCellsAreMarkedWithoutFailingTheGrid() {
+        // Given - una cuota inicial de 90 000 no deja capital que financiar
+        var command = new SweepSimulationCommand(base, null, null, null,
+            List.of(new BigDecimal("10000"), new BigDecimal("90000")));
+
+        // When
+        SweepResult result = sweepSimulationService.handle(command);
+
+        // Then
+        assertTrue(Double.isFinite(result.cuota()[0]));
+        assertTrue(Double.isNaN(result.cuota()[1]));
+        assertTrue(Double.isNaN(result.tcea()[1]));
+    }
+
+    @Test
+    void testAxesAreValidatedBeforeComputing() {
+        // Given
+        var tooManyRates = Collections.nCopies(SweepSimulationCommand.MAX_AXIS_VALUES + 1, new BigDecimal("0.08"));
+
+        // When & Then - plazos no positivos o enormes, gracia que no deja amortización y ejes sin tope
+        assertThrows(IllegalArgumentException.class, () -> new SweepSimulationCommand(base, null, List.of(-12, -24), null, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepSimulationCommand(base, null, List.of(2_000_000_000), null, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepSimulationCommand(base, null, List.of(12, 240), List.of(0, 12), null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepSimulationCommand(base, tooManyRates, null, null, null));
+    }
+
+    @Test
+    void testBaseWithoutGracePeriodTypeIsRejected() {
+        // Given - sin tipo de gracia cada celda fallaría dentro de new Bond(...)
+        var withoutGraceType = new CreateBondCommand(
+            1L, "Grilla", "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "NOMINAL", new BigDecimal("0.08"),
+            null, "MONTHLY", 240, null, 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+
+        // When & Then - se rechaza la solicitud en lugar de devolver un 500 a mitad de la grilla
+        assertThrows(IllegalArgumentException.class,
+            () -> new SweepSimulationCommand(withoutGraceType, List.of(new BigDecimal("0.08")), null, null, null));
+    }
+
+    @Test
+    void testCellBudgetIsEnforced() {
+        // Given - 5 × 5 × 5 = 125 celdas > 100
+        var values = List.of(new BigDecimal("0.05"), new BigDecimal("0.06"), new BigDecimal("0.07"),
+            new BigDecimal("0.08"), new BigDecimal("0.09"));
+        var command = new SweepSimulationCommand(base, values, List.of(60, 120, 180, 240, 300), List.of(0, 1, 2, 3, 4), null);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> sweepSimulationService.handle(command));
+    }
+}
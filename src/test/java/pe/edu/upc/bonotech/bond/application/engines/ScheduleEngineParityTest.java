@@ -0,0 +1,97 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleEngineParityTest {
+
+    private static final BigDecimal CENT = new BigDecimal("0.005");
+
+    /**
+     * Corpus: plazos hasta el máximo MiVivienda (300 meses) en frecuencia mensual y
+     * plazos equivalentes en frecuencias mayores, con y sin gracia, tasas efectivas y nominales.
+     */
+    static Stream<Arguments> corpus() {
+        List<Arguments> cases = new ArrayList<>();
+        String[][] frequencies = {
+            {"MONTHLY", "300"}, {"QUARTERLY", "120"}, {"SEMI_ANNUALLY", "60"}, {"ANNUALLY", "30"}
+        };
+        String[] rates = {"0.005", "0.075", "0.1325", "0.20"};
+        String[][] graces = {{"NONE", "0"}, {"PARTIAL", "6"}, {"TOTAL", "6"}};
+        String[] interestTypes = {"EFFECTIVE", "NOMINAL"};
+
+        for (String[] frequency : frequencies) {
+            int maxPeriods = Integer.parseInt(frequency[1]);
+            for (int periods : new int[]{12, 24, maxPeriods}) {
+                for (String rate : rates) {
+                    for (String[] grace : graces) {
+                        for (String interestType : interestTypes) {
+                            cases.add(Arguments.of(frequency[0], periods, rate, grace[0], Integer.parseInt(grace[1]), interestType));
+                        }
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void primitiveEngineMatchesBigDecimalEngineToTheCent(String frequency, int periods, String rate,
+                                                          String graceType, int graceMonths, String interestType) {
+        // Given
+        Bond bond = new Bond(new CreateBondCommand(
+            1L, "Parity", "PEN",
+            new BigDecimal("350000"), new BigDecimal("37500"),
+            new BigDecimal("0.10"), new BigDecimal("35000"),
+            new BigDecimal("3.85"), interestType, new BigDecimal(rate),
+            "MONTHLY", frequency, periods, graceType, graceMonths,
+            new BigDecimal("0.00049"), new BigDecimal("25.50"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.of(2025, 1, 15), new BigDecimal("0.06")
+        ));
+
+        // When
+        List<Flow> expected = ScheduleEngine.BIG_DECIMAL.generate(bond);
+        List<Flow> actual = ScheduleEngine.PRIMITIVE.generate(bond);
+
+        // Then
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Flow e = expected.get(i);
+            Flow a = actual.get(i);
+            assertEquals(e.getPeriodNumber(), a.getPeriodNumber());
+            assertEquals(e.getPeriodType(), a.getPeriodType());
+            assertEquals(0, e.getPeriodicRate().compareTo(a.getPeriodicRate()));
+            assertCent(e, a, Flow::getInitialBalance, "initialBalance");
+            assertCent(e, a, Flow::getFinalBalance, "finalBalance");
+            assertCent(e, a, Flow::getBasePayment, "basePayment");
+            assertCent(e, a, Flow::getInterest, "interest");
+            assertCent(e, a, Flow::getAmortization, "amortization");
+            assertCent(e, a, Flow::getInsuranceAmount, "insuranceAmount");
+            assertCent(e, a, Flow::getFixedInsuranceAmount, "fixedInsuranceAmount");
+            assertCent(e, a, Flow::getCommissionAmount, "commissionAmount");
+            assertCent(e, a, Flow::getTotalPayment, "totalPayment");
+        }
+    }
+
+    private static void assertCent(Flow expected, Flow actual, Function<Flow, BigDecimal> field, String name) {
+        BigDecimal difference = field.apply(expected).subtract(field.apply(actual)).abs();
+        assertTrue(difference.compareTo(CENT) < 0,
+            () -> name + " del período " + expected.getPeriodNumber() + " difiere en " + difference);
+    }
+}
@@ -0,0 +1,114 @@
+package pe.edu.upc.bonotech.bond.application.engines;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommandBuilder.aCommand;
+
+class ScheduleRegeneratorTest {
+
+    private final ScheduleRegenerator regenerator = new ScheduleRegenerator(10, EScheduleEngine.BIG_DECIMAL);
+
+    private static Bond storedBond() {
+        Bond bond = new Bond(aCommand().totalMonths(120).grace("PARTIAL", 3).build());
+        bond.setScheduleEngine(EScheduleEngine.BIG_DECIMAL);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+        ReflectionTestUtils.setField(bond, "id", 7L);
+        ReflectionTestUtils.setField(bond, "updatedAt", Instant.parse("2025-01-01T00:00:00Z"));
+        return bond;
+    }
+
+    @Test
+    void testStoredScheduleVerifiesAgainstRegenerated() {
+        // Given
+        Bond bond = storedBond();
+
+        // When
+        List<String> mismatches = regenerator.verify(bond);
+
+        // Then
+        assertTrue(mismatches.isEmpty(), mismatches::toString);
+    }
+
+    @Test
+    void testVerifyReportsAlteredSchedule() {
+        // Given
+        Bond bond = storedBond();
+        Flow flow = bond.getFlows().get(10);
+        flow.setInterest(flow.getInterest().add(new BigDecimal("0.01")));
+
+        // When
+        List<String> mismatches = regenerator.verify(bond);
+
+        // Then
+        assertEquals(1, mismatches.size());
+        assertTrue(mismatches.get(0).contains("interest"));
+    }
+
+    @Test
+    void testRegeneratedBondExposesEquivalentSchedule() {
+        // Given
+        Bond bond = storedBond();
+        List<Flow> stored = List.copyOf(bond.getFlows());
+        bond.dropStoredSchedule();
+        bond.attachSchedule(null);
+
+        // When
+        assertTrue(bond.requiresScheduleRegeneration());
+        regenerator.attachSchedule(bond);
+
+        // Then
+        assertEquals(EScheduleStorage.REGENERATED, bond.getScheduleStorage());
+        assertTrue(bond.getFlows().isEmpty());
+        assertEquals(stored.size(), bond.getSchedule().size());
+        for (int i = 0; i < stored.size(); i++) {
+            BigDecimal diff = stored.get(i).getTotalPayment().subtract(bond.getSchedule().get(i).getTotalPayment()).abs();
+            assertTrue(diff.compareTo(new BigDecimal("0.005")) < 0, "Período " + (i + 1));
+        }
+    }
+
+    @Test
+    void testCacheIsKeyedByLastModification() {
+        // Given
+        Bond bond = storedBond();
+        bond.dropStoredSchedule();
+        List<Flow> first = regenerator.regenerate(bond);
+
+        // When
+        bond.setAnnualRate(new BigDecimal("0.09"));
+        List<Flow> cached = regenerator.regenerate(bond);
+        ReflectionTestUtils.setField(bond, "updatedAt", Instant.parse("2025-01-02T00:00:00Z"));
+        List<Flow> refreshed = regenerator.regenerate(bond);
+
+        // Then
+        assertEquals(0, first.get(0).getTotalPayment().compareTo(cached.get(0).getTotalPayment()));
+        assertTrue(refreshed.get(0).getTotalPayment().compareTo(first.get(0).getTotalPayment()) > 0);
+    }
+
+    @Test
+    void testConcurrentRegenerationsShareTheCachedSchedule() {
+        // Given - el mismo crédito regenerado desde varios hilos a la vez
+        Bond bond = storedBond();
+        bond.dropStoredSchedule();
+        BigDecimal expected = ScheduleEngine.BIG_DECIMAL.generate(bond).get(5).getTotalPayment();
+
+        // When
+        List<BigDecimal> payments = IntStream.range(0, 64).parallel()
+            .mapToObj(i -> regenerator.regenerate(bond).get(5).getTotalPayment())
+            .toList();
+
+        // Then
+        payments.forEach(payment -> assertTrue(payment.subtract(expected).abs().compareTo(new BigDecimal("0.005")) < 0));
+    }
+}
@@ -0,0 +1,84 @@
+package pe.edu.upc.bonotech.bond.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pe.edu.upc.bonotech.bond.domain.model.calculations.IrrSolver;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TIR de un cronograma mensual: solver Newton/Brent en double, el mismo con refinamiento BigDecimal
+ * (lo que usa ResultsFlow) y la búsqueda binaria BigDecimal anterior.
+ * Ejecutar con {@code java -cp target/test-classes:<classpath de test> ...IrrSolverBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IrrSolverBenchmark {
+
+    private static final int PERIODS_PER_YEAR = 12;
+
+    @Param({"60", "240", "360"})
+    private int periods;
+
+    private double initialFlow;
+    private double[] payments;
+    private double guess;
+    private BigDecimal initialFlowDecimal;
+    private BigDecimal[] paymentsDecimal;
+
+    @Setup
+    public void setUp() {
+        double capital = 350000;
+        double tep = Math.pow(1.0875, 1.0 / PERIODS_PER_YEAR) - 1;
+        double payment = capital * tep / (1 - Math.pow(1 + tep, -periods)) + 28.50 + 9.90;
+
+        initialFlow = capital - 450.00;
+        payments = new double[periods];
+        paymentsDecimal = new BigDecimal[periods];
+        for (int k = 0; k < periods; k++) {
+            payments[k] = payment;
+            paymentsDecimal[k] = BigDecimal.valueOf(payment);
+        }
+        initialFlowDecimal = BigDecimal.valueOf(initialFlow);
+        guess = tep;
+    }
+
+    @Benchmark
+    public double newtonBrent() {
+        return IrrSolver.solve(initialFlow, payments, guess);
+    }
+
+    @Benchmark
+    public BigDecimal mixedPrecision() {
+        return IrrSolver.solve(initialFlowDecimal, paymentsDecimal, guess, 10);
+    }
+
+    @Benchmark
+    public BigDecimal legacyBisection() {
+        return LegacyTirBisection.solve(initialFlowDecimal, paymentsDecimal, PERIODS_PER_YEAR);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(IrrSolverBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
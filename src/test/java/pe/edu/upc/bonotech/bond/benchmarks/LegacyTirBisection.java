@@ -0,0 +1,53 @@
+package pe.edu.upc.bonotech.bond.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Copia de referencia de la búsqueda binaria BigDecimal que usaba ResultsFlow antes del
+ * solver Newton/Brent (100 iteraciones sobre [0.01%, 200%]); solo para comparar tiempos
+ */
+final class LegacyTirBisection {
+
+    private static final int SCALE = 10;
+
+    private LegacyTirBisection() {
+    }
+
+    static BigDecimal solve(BigDecimal initialFlow, BigDecimal[] payments, int periodsPerYear) {
+        BigDecimal low = BigDecimal.valueOf(0.0001);
+        BigDecimal high = BigDecimal.valueOf(2.0);
+        BigDecimal precision = BigDecimal.valueOf(0.0001);
+        BigDecimal mid = BigDecimal.ZERO;
+
+        for (int i = 0; i < 100; i++) {
+            mid = low.add(high).divide(BigDecimal.valueOf(2), SCALE, RoundingMode.HALF_UP);
+
+            BigDecimal vanMid = van(initialFlow, payments, mid, periodsPerYear);
+
+            if (vanMid.abs().compareTo(precision) <= 0) {
+                break;
+            } else if (vanMid.compareTo(BigDecimal.ZERO) > 0) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        return mid;
+    }
+
+    private static BigDecimal van(BigDecimal initialFlow, BigDecimal[] payments, BigDecimal rate, int periodsPerYear) {
+        BigDecimal periodicRate = BigDecimal.valueOf(Math.pow(rate.doubleValue() + 1, 1.0 / periodsPerYear))
+            .subtract(BigDecimal.ONE)
+            .setScale(SCALE, RoundingMode.HALF_UP);
+
+        BigDecimal van = initialFlow;
+        for (int k = 0; k < payments.length; k++) {
+            BigDecimal discountFactor = BigDecimal.ONE.add(periodicRate).pow(k + 1, MathContext.DECIMAL128);
+            van = van.add(payments[k].negate().divide(discountFactor, SCALE, RoundingMode.HALF_UP));
+        }
+        return van;
+    }
+}
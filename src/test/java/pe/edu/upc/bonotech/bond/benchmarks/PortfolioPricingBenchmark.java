@@ -0,0 +1,114 @@
+package pe.edu.upc.bonotech.bond.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pe.edu.upc.bonotech.bond.application.commandservices.BondPortfolioPricingService;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.ResultsFlow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.PortfolioPricingResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cartera de créditos: camino por objeto (Bond + motor BigDecimal + ResultsFlow, como
+ * BondCommandService.simulate) frente al motor struct-of-arrays por bloques. Ambos en un solo
+ * hilo para comparar el costo por crédito.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortfolioPricingBenchmark {
+
+    @Param({"1000"})
+    private int bonds;
+
+    private List<CreateBondCommand> commands;
+    private List<Supplier<CreateBondCommand>> deferred;
+    private BondPortfolioPricingService portfolioPricingService;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        commands = new ArrayList<>(bonds);
+        String[] frequencies = {"MONTHLY", "QUARTERLY", "SEMI_ANNUALLY"};
+        int[] terms = {60, 120, 240, 300};
+        for (int i = 0; i < bonds; i++) {
+            commands.add(new CreateBondCommand(
+                1L, "Cartera", "PEN",
+                BigDecimal.valueOf(200000 + 1000L * (i % 150)), new BigDecimal("30000"),
+                new BigDecimal("0.10"), new BigDecimal("20000"),
+                new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.06").add(BigDecimal.valueOf(i % 40, 3)),
+                "ANNUALLY", frequencies[i % frequencies.length], terms[i % terms.length],
+                i % 3 == 0 ? "PARTIAL" : "NONE", i % 3 == 0 ? 6 : 0,
+                new BigDecimal("0.00049"), new BigDecimal("28.50"),
+                new BigDecimal("450.00"), new BigDecimal("9.90"), new BigDecimal("150.00"),
+                LocalDate.now(), new BigDecimal("0.06")
+            ));
+        }
+
+        deferred = commands.stream().<Supplier<CreateBondCommand>>map(command -> () -> command).toList();
+
+        pool = new ForkJoinPool(1);
+        portfolioPricingService = new BondPortfolioPricingService();
+        ReflectionTestUtils.setField(portfolioPricingService, "simulationPool", pool);
+        ReflectionTestUtils.setField(portfolioPricingService, "blockSize", 256);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void perObject(Blackhole blackhole) {
+        for (CreateBondCommand command : commands) {
+            Bond bond = new Bond(command);
+            bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+
+            ResultsFlow results = new ResultsFlow();
+            results.setBond(bond);
+            results.calculateClosedFormTotals();
+            results.calculateVAN(bond.getDiscountRate());
+            results.calculateTIR();
+            blackhole.consume(results);
+        }
+    }
+
+    @Benchmark
+    public PortfolioPricingResult structOfArrays() {
+        return portfolioPricingService.handle(deferred);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PortfolioPricingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
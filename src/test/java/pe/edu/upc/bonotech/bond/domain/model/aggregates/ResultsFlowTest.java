@@ -0,0 +1,213 @@
+package pe.edu.upc.bonotech.bond.domain.model.aggregates;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultsFlowTest {
+
+    private static final BigDecimal EXACT = new BigDecimal("0.000001");
+    private static final BigDecimal CENT = new BigDecimal("0.005");
+
+    static Stream<Arguments> corpus() {
+        List<Arguments> cases = new ArrayList<>();
+        String[][] frequencies = {
+            {"MONTHLY", "300"}, {"QUARTERLY", "120"}, {"SEMI_ANNUALLY", "60"}, {"ANNUALLY", "30"}
+        };
+        String[] rates = {"0.005", "0.075", "0.20"};
+        String[][] graces = {{"NONE", "0"}, {"PARTIAL", "6"}, {"TOTAL", "6"}};
+
+        for (String[] frequency : frequencies) {
+            for (int periods : new int[]{12, Integer.parseInt(frequency[1])}) {
+                for (String rate : rates) {
+                    for (String[] grace : graces) {
+                        cases.add(Arguments.of(frequency[0], periods, rate, grace[0], Integer.parseInt(grace[1])));
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    private static Bond bond(String frequency, int periods, String rate, String graceType, int graceMonths) {
+        return new Bond(new CreateBondCommand(
+            1L, "Totales", "PEN",
+            new BigDecimal("350000"), new BigDecimal("37500"),
+            new BigDecimal("0.10"), new BigDecimal("35000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal(rate),
+            "ANNUALLY", frequency, periods, graceType, graceMonths,
+            new BigDecimal("0.00049"), new BigDecimal("28.50"),
+            new BigDecimal("450.00"), new BigDecimal("9.90"), new BigDecimal("150.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        ));
+    }
+
+    private static ResultsFlow[] bothPaths(Bond bond, ScheduleEngine engine) {
+        bond.getFlows().addAll(engine.generate(bond));
+
+        ResultsFlow iterated = new ResultsFlow();
+        iterated.setBond(bond);
+        iterated.calculateTotals();
+
+        ResultsFlow closedForm = new ResultsFlow();
+        closedForm.setBond(bond);
+        closedForm.calculateClosedFormTotals();
+
+        return new ResultsFlow[]{iterated, closedForm};
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void closedFormTotalsMatchIteratedTotals(String frequency, int periods, String rate,
+                                             String graceType, int graceMonths) {
+        // Given
+        Bond bond = bond(frequency, periods, rate, graceType, graceMonths);
+
+        // When
+        ResultsFlow[] results = bothPaths(bond, ScheduleEngine.BIG_DECIMAL);
+
+        // Then
+        assertTotalsAgree(results[0], results[1], EXACT);
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void closedFormTotalsMatchPrimitiveScheduleToTheCent(String frequency, int periods, String rate,
+                                                         String graceType, int graceMonths) {
+        // Given
+        Bond bond = bond(frequency, periods, rate, graceType, graceMonths);
+
+        // When
+        ResultsFlow[] results = bothPaths(bond, ScheduleEngine.PRIMITIVE);
+
+        // Then
+        assertTotalsAgree(results[0], results[1], CENT);
+    }
+
+    @Test
+    void closedFormFallsBackToIterationWithoutPeriodicRate() {
+        // Given
+        Bond bond = bond("MONTHLY", 12, "0.05", "NONE", 0);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+        bond.setAnnualRate(BigDecimal.ZERO);
+
+        ResultsFlow iterated = new ResultsFlow();
+        iterated.setBond(bond);
+        iterated.calculateTotals();
+
+        // When
+        ResultsFlow closedForm = new ResultsFlow();
+        closedForm.setBond(bond);
+        closedForm.calculateClosedFormTotals();
+
+        // Then
+        assertTotalsAgree(iterated, closedForm, BigDecimal.ZERO);
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void tirCancelsTheCashFlowAndTceaExceedsContractRate(String frequency, int periods, String rate,
+                                                        String graceType, int graceMonths) {
+        // Given
+        Bond bond = bond(frequency, periods, rate, graceType, graceMonths);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+        ResultsFlow results = new ResultsFlow();
+        results.setBond(bond);
+
+        // When
+        results.calculateTIR();
+
+        // Then - la TIR es periódica y anula el VAN del flujo del cliente
+        double tir = results.getTir().doubleValue();
+        double van = bond.getFinancedCapital().subtract(bond.getInitialCommission()).doubleValue();
+        for (Flow flow : bond.getSchedule()) {
+            van -= flow.getTotalPayment().doubleValue() / Math.pow(1 + tir, flow.getPeriodNumber());
+        }
+        assertEquals(0, van, 0.01);
+        assertTrue(results.getTcea().compareTo(bond.getAnnualRate()) > 0,
+            "TCEA " + results.getTcea() + " vs TEA " + bond.getAnnualRate());
+    }
+
+    @Test
+    void vanProfileMatchesIndividualVanAtEachRate() {
+        // Given
+        Bond bond = bond("MONTHLY", 240, "0.075", "PARTIAL", 6);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+        ResultsFlow results = new ResultsFlow();
+        results.setBond(bond);
+        List<BigDecimal> rates = List.of(new BigDecimal("0.04"), new BigDecimal("0.06"), new BigDecimal("0.10"), new BigDecimal("0.15"));
+
+        // When
+        List<BigDecimal> profile = results.calculateVANProfile(rates);
+
+        // Then - idéntico al VAN individual y sin tocar el VAN guardado
+        assertEquals(rates.size(), profile.size());
+        assertNull(results.getVan());
+        for (int j = 0; j < rates.size(); j++) {
+            ResultsFlow single = new ResultsFlow();
+            single.setBond(bond);
+            single.calculateVAN(rates.get(j));
+            assertEquals(0, single.getVan().compareTo(profile.get(j)), "tasa " + rates.get(j));
+        }
+        assertTrue(profile.get(0).compareTo(profile.get(3)) < 0, "el VAN del cliente crece con la tasa de descuento");
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void fusedResultsMatchSeparatePasses(String frequency, int periods, String rate,
+                                         String graceType, int graceMonths) {
+        // Given
+        Bond bond = bond(frequency, periods, rate, graceType, graceMonths);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+
+        ResultsFlow separate = new ResultsFlow();
+        separate.setBond(bond);
+        separate.calculateClosedFormTotals();
+        separate.calculateVAN(bond.getDiscountRate());
+        separate.calculateTIR();
+
+        // When
+        ResultsFlow fused = new ResultsFlow();
+        fused.setBond(bond);
+        fused.calculateResults(bond.getDiscountRate());
+
+        // Then
+        assertTotalsAgree(separate, fused, BigDecimal.ZERO);
+        assertClose(separate, fused, ResultsFlow::getAverageMonthlyPayment, "averageMonthlyPayment", BigDecimal.ZERO);
+        assertClose(separate, fused, ResultsFlow::getVan, "van", BigDecimal.ZERO);
+        assertClose(separate, fused, ResultsFlow::getTir, "tir", BigDecimal.ZERO);
+        assertClose(separate, fused, ResultsFlow::getTcea, "tcea", BigDecimal.ZERO);
+    }
+
+    private static void assertTotalsAgree(ResultsFlow expected, ResultsFlow actual, BigDecimal tolerance) {
+        assertClose(expected, actual, ResultsFlow::getTotalBasePayments, "totalBasePayments", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalInterest, "totalInterest", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalAmortization, "totalAmortization", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalInsurance, "totalInsurance", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalFixedInsurance, "totalFixedInsurance", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalCommissions, "totalCommissions", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalCosts, "totalCosts", tolerance);
+        assertClose(expected, actual, ResultsFlow::getTotalPaid, "totalPaid", tolerance);
+        assertClose(expected, actual, ResultsFlow::getCostOfCredit, "costOfCredit", tolerance);
+    }
+
+    private static void assertClose(ResultsFlow expected, ResultsFlow actual,
+                                    Function<ResultsFlow, BigDecimal> field, String name, BigDecimal tolerance) {
+        BigDecimal diff = field.apply(expected).subtract(field.apply(actual)).abs();
+        assertTrue(diff.compareTo(tolerance) <= 0,
+            name + ": " + field.apply(expected) + " vs " + field.apply(actual));
+    }
+}
@@ -0,0 +1,77 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CashFlowEvaluatorTest {
+
+    private static double[] payments(int periods) {
+        double[] payments = new double[periods];
+        for (int k = 0; k < periods; k++) {
+            payments[k] = 2800 + 3.5 * k;
+        }
+        return payments;
+    }
+
+    @Test
+    void testNpvMatchesDiscountingEachFlow() {
+        // Given
+        double[] payments = payments(240);
+        CashFlowEvaluator cashFlow = new CashFlowEvaluator(350000, payments);
+        double rate = 0.0068;
+
+        // When
+        double npv = cashFlow.npv(rate);
+
+        // Then
+        double expected = 350000;
+        for (int k = 0; k < payments.length; k++) {
+            expected -= payments[k] / Math.pow(1 + rate, k + 1);
+        }
+        assertEquals(expected, npv, 1e-6);
+    }
+
+    @Test
+    void testDerivativeComesFromTheSamePass() {
+        // Given
+        CashFlowEvaluator cashFlow = new CashFlowEvaluator(1000, payments(12));
+        double rate = 0.03;
+        double h = 1e-7;
+
+        // When
+        double[] result = cashFlow.npvAndDerivative(rate);
+
+        // Then
+        double numeric = (cashFlow.npv(rate + h) - cashFlow.npv(rate - h)) / (2 * h);
+        assertEquals(cashFlow.npv(rate), result[0], 1e-9);
+        assertEquals(numeric, result[1], Math.abs(numeric) * 1e-5);
+    }
+
+    @Test
+    void testDecimalNpvMatchesPowPerPeriod() {
+        // Given
+        BigDecimal initialFlow = new BigDecimal("349550.00");
+        BigDecimal rate = new BigDecimal("0.0048675506");
+        BigDecimal[] payments = new BigDecimal[300];
+        for (int k = 0; k < payments.length; k++) {
+            payments[k] = new BigDecimal("2893.4571234567").add(BigDecimal.valueOf(k, 2));
+        }
+
+        // When
+        BigDecimal npv = CashFlowEvaluator.npv(initialFlow, payments, rate, 10);
+
+        // Then - referencia: (1 + r)^k recalculado en cada período
+        BigDecimal expected = initialFlow;
+        for (int k = 0; k < payments.length; k++) {
+            BigDecimal discountFactor = BigDecimal.ONE.add(rate).pow(k + 1, MathContext.DECIMAL128);
+            expected = expected.subtract(payments[k].divide(discountFactor, 10, RoundingMode.HALF_UP));
+        }
+        assertTrue(expected.subtract(npv).abs().compareTo(new BigDecimal("0.000001")) <= 0,
+            expected + " vs " + npv);
+    }
+}
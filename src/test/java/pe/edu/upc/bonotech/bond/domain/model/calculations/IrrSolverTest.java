@@ -0,0 +1,114 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IrrSolverTest {
+
+    private static double[] annuity(double capital, double rate, int periods) {
+        double[] payments = new double[periods];
+        Arrays.fill(payments, capital * rate / (1 - Math.pow(1 + rate, -periods)));
+        return payments;
+    }
+
+    @Test
+    void testAnnuityRateIsRecovered() {
+        // Given
+        double rate = 0.0065;
+        double[] payments = annuity(350000, rate, 240);
+
+        // When
+        double tir = IrrSolver.solve(350000, payments, 0.006);
+
+        // Then
+        assertEquals(rate, tir, rate * 1e-9);
+        assertEquals(0, new CashFlowEvaluator(350000, payments).npv(tir), 1e-6);
+    }
+
+    @Test
+    void testClosedFormSeedWithoutGuess() {
+        // Given
+        double rate = 0.045;
+        double[] payments = annuity(100000, rate, 30);
+
+        // When
+        double tir = IrrSolver.solve(100000, payments, Double.NaN);
+
+        // Then
+        assertEquals(rate, tir, rate * 1e-9);
+    }
+
+    @Test
+    void testBadSeedFallsBackToBrent() {
+        // Given - semilla muy lejos de la raíz
+        double rate = 0.012;
+        double[] payments = annuity(50000, rate, 120);
+
+        // When
+        double tir = IrrSolver.solve(50000, payments, 5.0);
+
+        // Then
+        assertEquals(rate, tir, rate * 1e-9);
+    }
+
+    @Test
+    void testScheduleWithoutPaymentsHasNoRoot() {
+        // Given - el VAN es constante, no hay tasa que lo anule
+        double[] payments = {0, 0, 0};
+
+        // When
+        double tir = IrrSolver.solve(100, payments, 0.01);
+
+        // Then
+        assertTrue(Double.isNaN(tir));
+    }
+
+    @Test
+    void testDecimalSolveMatchesDoublePreSolve() {
+        // Given
+        BigDecimal initialFlow = new BigDecimal("349550.00");
+        BigDecimal[] payments = new BigDecimal[300];
+        double[] paymentValues = new double[payments.length];
+        for (int k = 0; k < payments.length; k++) {
+            payments[k] = new BigDecimal("2893.4571234567").add(BigDecimal.valueOf(k % 7, 2));
+            paymentValues[k] = payments[k].doubleValue();
+        }
+
+        // When
+        BigDecimal tir = IrrSolver.solve(initialFlow, payments, 0.005, 10);
+
+        // Then
+        assertEquals(10, tir.scale());
+        assertEquals(IrrSolver.solve(initialFlow.doubleValue(), paymentValues, 0.005), tir.doubleValue(), 1e-8);
+    }
+
+    @Test
+    void testPolishCertifiesAnApproximateRoot() {
+        // Given - aproximación con error de 1e-7
+        BigDecimal initialFlow = new BigDecimal("100000");
+        BigDecimal[] payments = new BigDecimal[36];
+        Arrays.fill(payments, new BigDecimal("3321.43"));
+        double estimate = IrrSolver.solve(100000, Arrays.stream(payments).mapToDouble(BigDecimal::doubleValue).toArray(), 0.01);
+
+        // When
+        BigDecimal tir = IrrSolver.polish(initialFlow, payments, new BigDecimal(estimate + 1e-7), 20);
+
+        // Then
+        BigDecimal npv = CashFlowEvaluator.npvAndDerivative(initialFlow, payments, tir, MathContext.DECIMAL128)[0];
+        assertTrue(npv.abs().compareTo(new BigDecimal("1E-12")) < 0, "VAN = " + npv);
+    }
+
+    @Test
+    void testDecimalSolveWithoutRootIsNull() {
+        // Given
+        BigDecimal[] payments = {BigDecimal.ZERO, BigDecimal.ZERO};
+
+        // When / Then
+        assertNull(IrrSolver.solve(new BigDecimal("100"), payments, 0.01, 10));
+    }
+}
@@ -0,0 +1,65 @@
+package pe.edu.upc.bonotech.bond.domain.model.calculations;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EPaymentFrequency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateFactorCacheTest {
+
+    private static CacheStats stats() {
+        return RateFactorCache.cache().stats();
+    }
+
+    @Test
+    void testRepeatedRateIsServedFromCache() {
+        // Given
+        BigDecimal first = FrenchMethod.periodicRate(new BigDecimal("0.0731"), EPaymentFrequency.MONTHLY);
+        CacheStats before = stats();
+
+        // When - misma tasa con otra escala
+        BigDecimal second = FrenchMethod.periodicRate(new BigDecimal("0.073100"), EPaymentFrequency.MONTHLY);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, stats().minus(before).hitCount());
+        assertEquals(0, stats().minus(before).missCount());
+    }
+
+    @Test
+    void testFactorsAreKeyedByParameter() {
+        // Given
+        BigDecimal rate = new BigDecimal("0.0917");
+
+        // When
+        BigDecimal monthly = FrenchMethod.periodicRate(rate, EPaymentFrequency.MONTHLY);
+        BigDecimal quarterly = FrenchMethod.periodicRate(rate, EPaymentFrequency.QUARTERLY);
+        BigDecimal factor120 = FrenchMethod.annuityFactor(monthly, 120);
+        BigDecimal factor240 = FrenchMethod.annuityFactor(monthly, 240);
+
+        // Then
+        assertTrue(quarterly.compareTo(monthly) > 0);
+        assertTrue(factor240.compareTo(factor120) > 0);
+        assertEquals(0, BigDecimal.valueOf(1 - Math.pow(1 + monthly.doubleValue(), -240))
+            .setScale(FrenchMethod.SCALE, RoundingMode.HALF_UP).compareTo(factor240));
+    }
+
+    @Test
+    void testNominalConversionMatchesFormula() {
+        // Given - TNA 12% capitalizable mensualmente
+        BigDecimal nominal = new BigDecimal("0.12");
+
+        // When
+        BigDecimal effective = FrenchMethod.effectiveAnnualRate(nominal, 30);
+
+        // Then - (1 + 0.01)^12 - 1
+        assertEquals(0.1268250301, effective.doubleValue(), 1e-10);
+        assertSame(effective, FrenchMethod.effectiveAnnualRate(nominal, 30));
+    }
+}
@@ -0,0 +1,138 @@
+package pe.edu.upc.bonotech.bond.domain.model.commands;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Comandos de simulación para las pruebas: parte de un crédito válido y cada prueba
+ * cambia solo los campos que le importan
+ */
+public final class CreateBondCommandBuilder {
+
+    private Long userId = 1L;
+    private String name = "Simulación";
+    private String currency = "PEN";
+    private BigDecimal loanAmount = new BigDecimal("100000");
+    private BigDecimal bbpAmount = new BigDecimal("20000");
+    private BigDecimal initialFeePercentage = new BigDecimal("0.10");
+    private BigDecimal initialFeeAmount = new BigDecimal("10000");
+    private BigDecimal exchangeRate = new BigDecimal("3.85");
+    private String interestType = "EFFECTIVE";
+    private BigDecimal annualRate = new BigDecimal("0.08");
+    private String capitalizationPeriod = "ANNUALLY";
+    private String paymentFrequency = "MONTHLY";
+    private Integer totalMonths = 240;
+    private String gracePeriodType = "NONE";
+    private Integer gracePeriodMonths = 0;
+    private BigDecimal insurancePercentage = new BigDecimal("0.0005");
+    private BigDecimal fixedInsurance = new BigDecimal("25.00");
+    private BigDecimal initialCommission = new BigDecimal("500.00");
+    private BigDecimal periodicCommission = new BigDecimal("10.00");
+    private BigDecimal finalCommission = new BigDecimal("100.00");
+    private LocalDate disbursementDate = LocalDate.now();
+    private BigDecimal discountRate = new BigDecimal("0.06");
+
+    private CreateBondCommandBuilder() {
+    }
+
+    /**
+     * Crédito de 100 000 PEN a 240 meses, TEA 8 %, sin gracia
+     */
+    public static CreateBondCommandBuilder aCommand() {
+        return new CreateBondCommandBuilder();
+    }
+
+    public CreateBondCommandBuilder userId(Long userId) {
+        this.userId = userId;
+        return this;
+    }
+
+    public CreateBondCommandBuilder name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public CreateBondCommandBuilder currency(String currency) {
+        this.currency = currency;
+        return this;
+    }
+
+    public CreateBondCommandBuilder loanAmount(BigDecimal loanAmount) {
+        this.loanAmount = loanAmount;
+        return this;
+    }
+
+    public CreateBondCommandBuilder bbpAmount(BigDecimal bbpAmount) {
+        this.bbpAmount = bbpAmount;
+        return this;
+    }
+
+    public CreateBondCommandBuilder initialFee(BigDecimal percentage, BigDecimal amount) {
+        this.initialFeePercentage = percentage;
+        this.initialFeeAmount = amount;
+        return this;
+    }
+
+    public CreateBondCommandBuilder rate(String interestType, BigDecimal annualRate, String capitalizationPeriod) {
+        this.interestType = interestType;
+        this.annualRate = annualRate;
+        this.capitalizationPeriod = capitalizationPeriod;
+        return this;
+    }
+
+    public CreateBondCommandBuilder annualRate(BigDecimal annualRate) {
+        this.annualRate = annualRate;
+        return this;
+    }
+
+    public CreateBondCommandBuilder paymentFrequency(String paymentFrequency) {
+        this.paymentFrequency = paymentFrequency;
+        return this;
+    }
+
+    public CreateBondCommandBuilder totalMonths(Integer totalMonths) {
+        this.totalMonths = totalMonths;
+        return this;
+    }
+
+    public CreateBondCommandBuilder grace(String gracePeriodType, Integer gracePeriodMonths) {
+        this.gracePeriodType = gracePeriodType;
+        this.gracePeriodMonths = gracePeriodMonths;
+        return this;
+    }
+
+    public CreateBondCommandBuilder insurance(BigDecimal percentage, BigDecimal fixed) {
+        this.insurancePercentage = percentage;
+        this.fixedInsurance = fixed;
+        return this;
+    }
+
+    public CreateBondCommandBuilder commissions(BigDecimal initial, BigDecimal periodic, BigDecimal end) {
+        this.initialCommission = initial;
+        this.periodicCommission = periodic;
+        this.finalCommission = end;
+        return this;
+    }
+
+    public CreateBondCommandBuilder disbursementDate(LocalDate disbursementDate) {
+        this.disbursementDate = disbursementDate;
+        return this;
+    }
+
+    public CreateBondCommandBuilder discountRate(BigDecimal discountRate) {
+        this.discountRate = discountRate;
+        return this;
+    }
+
+    public CreateBondCommand build() {
+        return new CreateBondCommand(
+            userId, name, currency,
+            loanAmount, bbpAmount, initialFeePercentage, initialFeeAmount,
+            exchangeRate, interestType, annualRate, capitalizationPeriod, paymentFrequency,
+            totalMonths, gracePeriodType, gracePeriodMonths,
+            insurancePercentage, fixedInsurance,
+            initialCommission, periodicCommission, finalCommission,
+            disbursementDate, discountRate
+        );
+    }
+}
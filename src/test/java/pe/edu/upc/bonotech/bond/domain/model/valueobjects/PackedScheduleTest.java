@@ -0,0 +1,103 @@
+package pe.edu.upc.bonotech.bond.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleEngine;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedScheduleTest {
+
+    private static Bond bond(String graceType, int graceMonths) {
+        return new Bond(new CreateBondCommand(
+            1L, "Packed", "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, graceType, graceMonths,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        ));
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Given
+        Bond bond = bond("TOTAL", 6);
+        List<Flow> flows = ScheduleEngine.BIG_DECIMAL.generate(bond);
+
+        // When
+        byte[] packed = PackedSchedule.encode(flows);
+        List<Flow> decoded = PackedSchedule.decode(packed, bond);
+
+        // Then
+        assertEquals(flows.size(), decoded.size());
+        for (int i = 0; i < flows.size(); i++) {
+            Flow expected = flows.get(i);
+            Flow actual = decoded.get(i);
+            assertEquals(expected.getPeriodNumber(), actual.getPeriodNumber());
+            assertEquals(expected.getPeriodType(), actual.getPeriodType());
+            assertSameAtScale(expected, actual, Flow::getInitialBalance);
+            assertSameAtScale(expected, actual, Flow::getFinalBalance);
+            assertSameAtScale(expected, actual, Flow::getBasePayment);
+            assertSameAtScale(expected, actual, Flow::getInterest);
+            assertSameAtScale(expected, actual, Flow::getAmortization);
+            assertSameAtScale(expected, actual, Flow::getInsuranceAmount);
+            assertSameAtScale(expected, actual, Flow::getFixedInsuranceAmount);
+            assertSameAtScale(expected, actual, Flow::getCommissionAmount);
+            assertSameAtScale(expected, actual, Flow::getTotalPayment);
+            assertSameAtScale(expected, actual, Flow::getPeriodicRate);
+            assertSame(bond, actual.getBond());
+        }
+        // Más compacto que las 9 columnas DECIMAL por período
+        assertTrue(packed.length < flows.size() * 9 * 8);
+    }
+
+    @Test
+    void testPackAndUnpackSchedule() {
+        // Given
+        Bond bond = bond("NONE", 0);
+        bond.getFlows().addAll(ScheduleEngine.BIG_DECIMAL.generate(bond));
+
+        // When
+        bond.packSchedule();
+
+        // Then
+        assertEquals(EScheduleStorage.PACKED, bond.getScheduleStorage());
+        assertTrue(bond.getFlows().isEmpty());
+        assertEquals(240, bond.getSchedule().size());
+
+        // When
+        bond.unpackSchedule();
+
+        // Then
+        assertEquals(EScheduleStorage.ROWS, bond.getScheduleStorage());
+        assertNull(bond.getPackedSchedule());
+        assertEquals(240, bond.getFlows().size());
+    }
+
+    @Test
+    void testRejectsUnknownVersion() {
+        // Given
+        byte[] packed = PackedSchedule.encode(List.of());
+        packed[2] = 99;
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> PackedSchedule.decode(packed, new Bond()));
+    }
+
+    private static void assertSameAtScale(Flow expected, Flow actual, Function<Flow, BigDecimal> field) {
+        BigDecimal e = field.apply(expected).setScale(PackedSchedule.SCALE, RoundingMode.HALF_UP);
+        assertEquals(0, e.compareTo(field.apply(actual)));
+    }
+}
@@ -0,0 +1,106 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.OptimisticLockException;
+import pe.edu.upc.bonotech.bond.application.commandservices.BondCommandService;
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
+import pe.edu.upc.bonotech.shared.infrastructure.services.CurrencyConversionServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BondCommandService.class, LoanSummaryProjector.class, ScheduleRegenerator.class, CurrencyConversionServiceImpl.class})
+class BondOptimisticLockingTest {
+
+    @Autowired
+    private BondCommandService bondCommandService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long storedLoan() {
+        CreateBondCommand command = new CreateBondCommand(
+            1L, "Optimistic locking", "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+        Long loanId = bondCommandService.handle(command).orElseThrow().getId();
+        entityManager.flush();
+        entityManager.clear();
+        return loanId;
+    }
+
+    private static UpdateBondResource rateChange(Long version) {
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setAnnualRate(new BigDecimal("0.09"));
+        resource.setVersion(version);
+        return resource;
+    }
+
+    @Test
+    void testUpdateWithCurrentVersionIncrementsIt() {
+        // Given
+        Long loanId = storedLoan();
+        long version = entityManager.find(Bond.class, loanId).getVersion();
+
+        // When
+        bondCommandService.partialUpdateAndRecalculateLoan(loanId, rateChange(version));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertTrue(entityManager.find(Bond.class, loanId).getVersion() > version);
+    }
+
+    @Test
+    void testSecondEditorOfTheSameVersionIsRejected() {
+        // Given - dos pestañas leyeron la misma versión y la primera ya guardó
+        Long loanId = storedLoan();
+        long version = entityManager.find(Bond.class, loanId).getVersion();
+        bondCommandService.partialUpdateAndRecalculateLoan(loanId, rateChange(version));
+        entityManager.flush();
+
+        // When / Then - la segunda no sobrescribe en silencio
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> bondCommandService.partialUpdateAndRecalculateLoan(loanId, rateChange(version)));
+    }
+
+    @Test
+    void testConcurrentCommitDuringRecalculationIsDetectedOnWrite() {
+        // Given - la simulación ya está cargada cuando otra edición confirma y sube la versión
+        Long loanId = storedLoan();
+        long version = entityManager.find(Bond.class, loanId).getVersion();
+        entityManager.getEntityManager()
+            .createNativeQuery("UPDATE bonds SET version = version + 1 WHERE id = ?1")
+            .setParameter(1, loanId)
+            .executeUpdate();
+
+        // When / Then - el recálculo no espera a nadie y pierde al escribir con la versión leída
+        Exception conflict = assertThrows(Exception.class, () -> {
+            bondCommandService.partialUpdateAndRecalculateLoan(loanId, rateChange(version));
+            entityManager.flush();
+        });
+        assertTrue(conflict instanceof OptimisticLockException || conflict instanceof OptimisticLockingFailureException,
+            conflict.toString());
+    }
+}
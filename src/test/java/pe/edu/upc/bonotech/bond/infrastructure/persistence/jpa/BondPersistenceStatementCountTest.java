@@ -0,0 +1,180 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import pe.edu.upc.bonotech.bond.application.commandservices.BondCommandService;
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Flow;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.commands.DeleteUserBondsCommand;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
+import pe.edu.upc.bonotech.shared.infrastructure.services.CurrencyConversionServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BondCommandService.class, LoanSummaryProjector.class, ScheduleRegenerator.class, CurrencyConversionServiceImpl.class})
+class BondPersistenceStatementCountTest {
+
+    @Autowired
+    private BondCommandService bondCommandService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private static CreateBondCommand command() {
+        return command(1L, "PEN");
+    }
+
+    private static CreateBondCommand command(Long userId, String currency) {
+        return new CreateBondCommand(
+            userId, "Statement count", currency,
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+    }
+
+    @Test
+    void testSimulationIsWrittenInFixedNumberOfRoundTrips() {
+        // Given
+        CreateBondCommand command = command();
+        statistics.clear();
+
+        // When
+        bondCommandService.handle(command);
+        entityManager.flush();
+
+        // Then - 1 Bond + 240 Flows + 1 ResultsFlow + 1 LoanSummary
+        assertEquals(243, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        // Inserts de Bond, ResultsFlow y LoanSummary, 5 lotes de 50 Flows y ~5 reservas de la secuencia pooled
+        assertTrue(statistics.getPrepareStatementCount() <= 17,
+            "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRecalculationUpdatesFlowsInPlace() {
+        // Given
+        Bond created = bondCommandService.handle(command()).orElseThrow();
+        Long loanId = created.getId();
+        entityManager.flush();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(created.getVersion());
+        resource.setAnnualRate(new BigDecimal("0.09"));
+        statistics.clear();
+
+        // When
+        bondCommandService.partialUpdateAndRecalculateLoan(loanId, resource);
+        entityManager.flush();
+
+        // Then - los 240 Flows se actualizan en sitio, sin borrar ni insertar filas
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(240, statistics.getEntityStatistics(Flow.class.getName()).getUpdateCount());
+        // Los UPDATE de Flow van en lotes: unas pocas sentencias, no una por período
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+            "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testShorterTermDeletesOnlySurplusFlows() {
+        // Given
+        Bond created = bondCommandService.handle(command()).orElseThrow();
+        Long loanId = created.getId();
+        entityManager.flush();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(created.getVersion());
+        resource.setTotalMonths(180);
+        statistics.clear();
+
+        // When
+        bondCommandService.partialUpdateAndRecalculateLoan(loanId, resource);
+        entityManager.flush();
+
+        // Then
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(60, statistics.getEntityDeleteCount());
+        assertEquals(180, statistics.getEntityStatistics(Flow.class.getName()).getUpdateCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+            "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testDeleteUsesOneStatementPerTable() {
+        // Given
+        Long loanId = bondCommandService.handle(command()).orElseThrow().getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        boolean deleted = bondCommandService.deleteBond(loanId);
+
+        // Then - flows, results_flows, loan_summaries y bonds: sin cargar entidades
+        assertTrue(deleted);
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0L, count("SELECT COUNT(f) FROM Flow f"));
+        assertEquals(0L, count("SELECT COUNT(b) FROM Bond b"));
+        assertFalse(bondCommandService.deleteBond(loanId));
+    }
+
+    @Test
+    void testBulkDeleteIsIndependentOfMatchCount() {
+        // Given - usuario 7: tres en PEN y una en USD; usuario 8: una en PEN
+        for (int i = 0; i < 3; i++) {
+            bondCommandService.handle(command(7L, "PEN"));
+        }
+        bondCommandService.handle(command(7L, "USD"));
+        bondCommandService.handle(command(8L, "PEN"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        int deleted = bondCommandService.handle(new DeleteUserBondsCommand(7L, "PEN", null));
+
+        // Then - cuatro sentencias para las tres simulaciones; se conservan las que no coinciden
+        assertEquals(3, deleted);
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(2L, count("SELECT COUNT(b) FROM Bond b"));
+        assertEquals(2L, count("SELECT COUNT(r) FROM ResultsFlow r"));
+        assertEquals(2L, count("SELECT COUNT(s) FROM LoanSummary s"));
+        assertEquals(480L, count("SELECT COUNT(f) FROM Flow f"));
+    }
+
+    private long count(String jpql) {
+        return entityManager.getEntityManager().createQuery(jpql, Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,220 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import pe.edu.upc.bonotech.bond.application.commandservices.BondCommandService;
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.application.queryservices.BondQueryServiceImpl;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.entities.LoanSummary;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BondSummary;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.BondRepository;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.LoanSummaryRepository;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetCursor;
+import pe.edu.upc.bonotech.shared.domain.model.valueobjects.KeysetPage;
+import pe.edu.upc.bonotech.shared.infrastructure.services.CurrencyConversionServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BondCommandService.class, LoanSummaryProjector.class, BondQueryServiceImpl.class, ScheduleRegenerator.class, CurrencyConversionServiceImpl.class})
+class BondSummaryProjectionTest {
+
+    @Autowired
+    private BondCommandService bondCommandService;
+
+    @Autowired
+    private BondQueryServiceImpl bondQueryService;
+
+    @Autowired
+    private BondRepository bondRepository;
+
+    @Autowired
+    private LoanSummaryRepository loanSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private static CreateBondCommand command(Long userId, String name) {
+        return command(userId, name, new BigDecimal("100000"));
+    }
+
+    private static CreateBondCommand command(Long userId, String name, BigDecimal loanAmount) {
+        return new CreateBondCommand(
+            userId, name, "PEN",
+            loanAmount, new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+    }
+
+    @Test
+    void testSummariesAreProjectedWithoutLoadingEntities() {
+        // Given
+        Bond first = bondCommandService.handle(command(7L, "Primera")).orElseThrow();
+        bondCommandService.handle(command(7L, "Segunda"));
+        bondCommandService.handle(command(8L, "Otro usuario"));
+        BigDecimal expectedTcea = first.getResultsFlow().getTcea();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<BondSummary> summaries = loanSummaryRepository.findByUserId(
+            7L, KeysetCursor.start().createdAt(), KeysetCursor.start().id(), PageRequest.ofSize(20));
+
+        // Then - una sola consulta sobre loan_summaries y ninguna entidad (ni Flow) cargada
+        assertEquals(2, summaries.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        BondSummary summary = summaries.stream().filter(s -> s.id().equals(first.getId())).findFirst().orElseThrow();
+        assertEquals("Primera", summary.name());
+        assertEquals(0, expectedTcea.compareTo(summary.tcea()));
+        assertNotNull(summary.totalPaid());
+        assertNotNull(summary.firstInstallment());
+    }
+
+    @Test
+    void testSummaryFollowsUpdatesAndDeletes() {
+        // Given
+        Bond created = bondCommandService.handle(command(7L, "Original")).orElseThrow();
+        Long loanId = created.getId();
+        entityManager.flush();
+        entityManager.clear();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(created.getVersion());
+        resource.setName("Renombrada");
+        resource.setAnnualRate(new BigDecimal("0.09"));
+
+        // When
+        Bond updated = bondCommandService.partialUpdateAndRecalculateLoan(loanId, resource).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then - la fila refleja el nombre y los indicadores recalculados
+        LoanSummary summary = loanSummaryRepository.findById(loanId).orElseThrow();
+        assertEquals("Renombrada", summary.getName());
+        assertEquals(0, updated.getResultsFlow().getTcea().compareTo(summary.getTcea()));
+
+        // When - se elimina la simulación
+        bondCommandService.deleteBond(loanId);
+        entityManager.flush();
+
+        // Then
+        assertTrue(loanSummaryRepository.findById(loanId).isEmpty());
+    }
+
+    @Test
+    void testKeysetPagesCoverAllLoansInOrderWithoutDuplicates() {
+        // Given - cinco simulaciones del mismo usuario y una de otro
+        for (int i = 0; i < 5; i++) {
+            bondCommandService.handle(command(7L, "Simulación " + i));
+        }
+        bondCommandService.handle(command(8L, "Otro usuario"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - se recorre de dos en dos con el cursor devuelto
+        List<BondSummary> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.start();
+        do {
+            statistics.clear();
+            KeysetPage<BondSummary> page = bondQueryService.getLoanSummariesByUserId(7L, cursor, 2);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            seen.addAll(page.items());
+            pageSizes.add(page.items().size());
+            cursor = page.next() != null ? KeysetCursor.decode(page.next().encode()) : null;
+        } while (cursor != null);
+
+        // Then - 2 + 2 + 1, sin repetidos, de la más reciente a la más antigua
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(5, seen.stream().map(BondSummary::id).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            BondSummary previous = seen.get(i - 1);
+            BondSummary current = seen.get(i);
+            int byDate = previous.createdAt().compareTo(current.createdAt());
+            assertTrue(byDate > 0 || (byDate == 0 && previous.id() > current.id()));
+        }
+    }
+
+    @Test
+    void testAmountRangePagesOnlyMatchingLoans() {
+        // Given - montos de 100 000 a 160 000
+        for (int i = 0; i < 7; i++) {
+            bondCommandService.handle(command(1L, "Loan " + i, BigDecimal.valueOf(100000 + 10000L * i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - [120 000, 150 000] de dos en dos
+        List<BondSummary> seen = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.start();
+        do {
+            KeysetPage<BondSummary> page = bondQueryService.getLoansByAmountRange(
+                new BigDecimal("120000"), new BigDecimal("150000"), cursor, 2);
+            seen.addAll(page.items());
+            cursor = page.next();
+        } while (cursor != null);
+
+        // Then - los cuatro montos del rango, una vez cada uno
+        assertEquals(4, seen.size());
+        assertEquals(4, seen.stream().map(BondSummary::id).distinct().count());
+        assertTrue(seen.stream().allMatch(s -> s.loanAmount().compareTo(new BigDecimal("120000")) >= 0
+            && s.loanAmount().compareTo(new BigDecimal("150000")) <= 0));
+        assertThrows(IllegalArgumentException.class, () -> bondQueryService.getLoansByAmountRange(
+            new BigDecimal("150000"), new BigDecimal("120000"), KeysetCursor.start(), 2));
+    }
+
+    @Test
+    void testDetailFetchesScheduleInSameQuery() {
+        // Given
+        Long loanId = bondCommandService.handle(command(7L, "Detalle")).orElseThrow().getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Bond bond = bondRepository.findWithFlowsById(loanId).orElseThrow();
+        int periods = bond.getFlows().size();
+
+        // Then - Bond + Flows en un join; ResultsFlow (lado inverso del 1:1) en otra consulta
+        assertEquals(240, periods);
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+            "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,68 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import pe.edu.upc.bonotech.bond.application.commandservices.BondCommandService;
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
+import pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa.repositories.FlowRepository;
+import pe.edu.upc.bonotech.shared.infrastructure.services.CurrencyConversionServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BondCommandService.class, LoanSummaryProjector.class, ScheduleRegenerator.class, CurrencyConversionServiceImpl.class})
+class FlowRepositoryTest {
+
+    @Autowired
+    private BondCommandService bondCommandService;
+
+    @Autowired
+    private FlowRepository flowRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testStreamScheduleReturnsRequestedRangeInOrder() {
+        // Given
+        Long loanId = bondCommandService.handle(new CreateBondCommand(
+            1L, "Streaming", "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        )).orElseThrow().getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<ScheduleRow> rows;
+        try (Stream<ScheduleRow> stream = flowRepository.streamSchedule(loanId, 100, 110)) {
+            rows = stream.toList();
+        }
+
+        // Then
+        assertEquals(11, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(100 + i, rows.get(i).periodNumber());
+        }
+        assertEquals(0, rows.get(0).finalBalance().compareTo(rows.get(1).initialBalance()));
+    }
+}
@@ -0,0 +1,140 @@
+package pe.edu.upc.bonotech.bond.infrastructure.persistence.jpa;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import pe.edu.upc.bonotech.bond.application.commandservices.BondCommandService;
+import pe.edu.upc.bonotech.bond.application.commandservices.LoanSummaryProjector;
+import pe.edu.upc.bonotech.bond.application.engines.ScheduleRegenerator;
+import pe.edu.upc.bonotech.bond.application.queryservices.BondQueryServiceImpl;
+import pe.edu.upc.bonotech.bond.domain.model.aggregates.Bond;
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.interfaces.REST.resources.UpdateBondResource;
+import pe.edu.upc.bonotech.shared.infrastructure.services.CurrencyConversionServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sin transacción de prueba: una sesión no lee de la caché lo que se cacheó después de abrirse,
+ * así que cada operación confirma en su propia transacción, como en una petición real
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BondCommandService.class, LoanSummaryProjector.class, BondQueryServiceImpl.class,
+         ScheduleRegenerator.class, CurrencyConversionServiceImpl.class})
+class SimulationSecondLevelCacheTest {
+
+    @Autowired
+    private BondCommandService bondCommandService;
+
+    @Autowired
+    private BondQueryServiceImpl bondQueryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Long> createdLoans = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdLoans.forEach(bondCommandService::deleteBond);
+    }
+
+    private static CreateBondCommand command() {
+        return new CreateBondCommand(
+            1L, "Caché", "PEN",
+            new BigDecimal("100000"), new BigDecimal("20000"),
+            new BigDecimal("0.10"), new BigDecimal("10000"),
+            new BigDecimal("3.85"), "EFFECTIVE", new BigDecimal("0.08"),
+            "ANNUALLY", "MONTHLY", 240, "NONE", 0,
+            new BigDecimal("0.0005"), new BigDecimal("25.00"),
+            new BigDecimal("500.00"), new BigDecimal("10.00"), new BigDecimal("100.00"),
+            LocalDate.now(), new BigDecimal("0.06")
+        );
+    }
+
+    private Long persistedLoanId() {
+        Long loanId = bondCommandService.handle(command()).orElseThrow().getId();
+        createdLoans.add(loanId);
+        return loanId;
+    }
+
+    @Test
+    void testRepeatedDetailReadIsServedFromCache() {
+        // Given - una primera lectura llena las regiones de Bond, Bond.flows y Flow
+        Long loanId = persistedLoanId();
+        bondQueryService.getLoanById(loanId).orElseThrow();
+        statistics.clear();
+
+        // When
+        Bond bond = bondQueryService.getLoanById(loanId).orElseThrow();
+
+        // Then - Bond y cronograma desde la caché; a lo sumo la consulta del ResultsFlow (lado inverso del 1:1)
+        assertEquals(240, bond.getSchedule().size());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 242,
+            "Aciertos: " + statistics.getSecondLevelCacheHitCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 1,
+            "Sentencias preparadas: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUpdateIsNotServedStaleFromCache() {
+        // Given
+        Long loanId = persistedLoanId();
+        Bond before = bondQueryService.getLoanById(loanId).orElseThrow();
+        BigDecimal tceaBefore = before.getResultsFlow().getTcea();
+        BigDecimal firstPaymentBefore = before.getSchedule().get(0).getTotalPayment();
+        UpdateBondResource resource = new UpdateBondResource();
+        resource.setVersion(before.getVersion());
+        resource.setName("Actualizada");
+        resource.setAnnualRate(new BigDecimal("0.09"));
+
+        // When
+        bondCommandService.partialUpdateAndRecalculateLoan(loanId, resource);
+        Bond after = bondQueryService.getLoanById(loanId).orElseThrow();
+
+        // Then
+        assertEquals("Actualizada", after.getName());
+        assertNotEquals(0, tceaBefore.compareTo(after.getResultsFlow().getTcea()));
+        assertNotEquals(0, firstPaymentBefore.compareTo(after.getSchedule().get(0).getTotalPayment()));
+    }
+
+    @Test
+    void testDeleteIsNotServedStaleFromCache() {
+        // Given
+        Long loanId = persistedLoanId();
+        bondQueryService.getLoanById(loanId).orElseThrow();
+
+        // When
+        bondCommandService.deleteBond(loanId);
+
+        // Then
+        assertTrue(bondQueryService.getLoanById(loanId).isEmpty());
+        assertFalse(entityManagerFactory.getCache().contains(Bond.class, loanId));
+    }
+}
@@ -0,0 +1,153 @@
+package pe.edu.upc.bonotech.bond.interfaces.REST;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pe.edu.upc.bonotech.bond.domain.model.commands.CreateBondCommand;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.BatchSimulationResult;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.EScheduleStorage;
+import pe.edu.upc.bonotech.bond.domain.model.valueobjects.ScheduleRow;
+import pe.edu.upc.bonotech.bond.domain.services.IBondBatchSimulationService;
+import pe.edu.upc.bonotech.bond.domain.services.IBondQueryService;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+class BondControllerTest {
+
+    @Mock
+    private IBondQueryService bondQueryService;
+
+    @Mock
+    private IBondBatchSimulationService batchSimulationService;
+
+    @InjectMocks
+    private BondController bondController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bondController, "objectMapper", new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(bondController).build();
+    }
+
+    private void givenStoredSchedule() {
+        when(bondQueryService.getScheduleStorage(1L)).thenReturn(Optional.of(EScheduleStorage.ROWS));
+        doAnswer(invocation -> {
+            Consumer<ScheduleRow> consumer = invocation.getArgument(3);
+            consumer.accept(row(1));
+            consumer.accept(row(2));
+            return null;
+        }).when(bondQueryService).streamAmortizationTable(eq(1L), anyInt(), anyInt(), any());
+    }
+
+    private static ScheduleRow row(int period) {
+        BigDecimal amount = new BigDecimal("100.00");
+        return new ScheduleRow(period, "NORMAL", amount, amount, amount, amount, amount,
+            amount, amount, amount, amount, new BigDecimal("0.0064"));
+    }
+
+    private MvcResult amortizationTable(String accept) throws Exception {
+        givenStoredSchedule();
+        MvcResult started = mockMvc.perform(get("/v1/loans/1/amortization-table").header(HttpHeaders.ACCEPT, accept))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn();
+    }
+
+    @Test
+    void testWildcardAcceptGetsJsonArray() throws Exception {
+        // Given - curl y RestTemplate envían */*; un navegador lo agrega con menor calidad
+        String[] wildcards = {"*/*", "application/*", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"};
+
+        for (String accept : wildcards) {
+            // When
+            MvcResult result = amortizationTable(accept);
+
+            // Then
+            assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType(), accept);
+            assertTrue(result.getResponse().getContentAsString().startsWith("[{"), accept);
+        }
+    }
+
+    @Test
+    void testJsonAcceptGetsJsonArray() throws Exception {
+        // When
+        MvcResult result = amortizationTable(MediaType.APPLICATION_JSON_VALUE);
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType());
+        assertTrue(body.startsWith("[{") && body.endsWith("}]"));
+        assertEquals(2, new ObjectMapper().readTree(body).size());
+    }
+
+    @Test
+    void testExplicitNdjsonAcceptGetsOneRowPerLine() throws Exception {
+        // When
+        MvcResult result = amortizationTable(MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, result.getResponse().getContentType());
+        assertEquals(2, lines.length);
+        assertEquals(1, new ObjectMapper().readTree(lines[0]).get("periodNumber").asInt());
+        assertEquals(2, new ObjectMapper().readTree(lines[1]).get("periodNumber").asInt());
+    }
+
+    @Test
+    void testBatchResultsAreStreamedAsNdjson() throws Exception {
+        // Given - el servicio reporta un resultado por línea, en orden
+        doAnswer(invocation -> {
+            List<Supplier<CreateBondCommand>> commands = invocation.getArgument(0);
+            Consumer<BatchSimulationResult> sink = invocation.getArgument(2);
+            for (int i = 0; i < commands.size(); i++) {
+                sink.accept(BatchSimulationResult.failure(i, "Crédito " + i + " no válido"));
+            }
+            return null;
+        }).when(batchSimulationService).handle(any(), any(), any());
+
+        // When
+        MvcResult started = mockMvc.perform(post("/v1/loans/simulate/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"A\"}\nno es json\n"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, result.getResponse().getContentType());
+        assertEquals(2, lines.length);
+        assertEquals(1, new ObjectMapper().readTree(lines[1]).get("index").asInt());
+        assertEquals("ERROR", new ObjectMapper().readTree(lines[1]).get("status").asText());
+    }
+}
@@ -0,0 +1,127 @@
+package pe.edu.upc.bonotech.shared.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        // Dos bases H2 embebidas hacen de primario y réplica; cada una sabe quién es
+        primary = embedded("rw-primary");
+        replica = embedded("rw-replica");
+        new JdbcTemplate(primary).execute("INSERT INTO nodes (name) VALUES ('primary')");
+        new JdbcTemplate(replica).execute("INSERT INTO nodes (name) VALUES ('replica')");
+        new JdbcTemplate(replica).execute("CREATE TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE
+            + " (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, Map.of("replica-0", replica));
+        lagMonitor = new ReplicaLagMonitor(primary, Map.of("replica-0", replica), routingDataSource,
+            Duration.ofSeconds(5), Clock.systemUTC());
+        lagMonitor.initialize();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.close();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    private static DataSource embedded(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE nodes (name VARCHAR(20))");
+        return dataSource;
+    }
+
+    private void replicaHeartbeatAgo(Duration lag) {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("DELETE FROM " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+        replicaTemplate.update("INSERT INTO " + ReplicaLagMonitor.HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)",
+            System.currentTimeMillis() - lag.toMillis());
+    }
+
+    private String node(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM nodes", String.class));
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        // Given - réplica al día
+        replicaHeartbeatAgo(Duration.ZERO);
+        lagMonitor.check();
+
+        // When / Then
+        assertEquals("replica", node(readOnly));
+        assertEquals("primary", node(readWrite));
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM nodes", String.class));
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+        // Given - la réplica va un minuto por detrás (máximo 5 s)
+        replicaHeartbeatAgo(Duration.ofMinutes(1));
+        lagMonitor.check();
+
+        // When / Then - la lectura va al primario
+        assertFalse(routingDataSource.isReplicaAvailable("replica-0"));
+        assertEquals("primary", node(readOnly));
+
+        // When - la réplica se pone al día
+        replicaHeartbeatAgo(Duration.ofSeconds(1));
+        lagMonitor.check();
+
+        // Then
+        assertEquals("replica", node(readOnly));
+    }
+
+    @Test
+    void testUncheckedReplicaIsNotUsed() {
+        // Given - sin latido en la réplica (p. ej. replicación sin iniciar)
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertEquals("primary", node(readOnly));
+    }
+
+    @Test
+    void testHeartbeatIsWrittenToPrimary() {
+        // When
+        lagMonitor.beat();
+        lagMonitor.beat();
+
+        // Then - una sola fila con la hora actual
+        Long beatAt = new JdbcTemplate(primary).queryForObject(
+            "SELECT beat_at FROM " + ReplicaLagMonitor.HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+        assertTrue(System.currentTimeMillis() - beatAt < 5_000);
+    }
+}